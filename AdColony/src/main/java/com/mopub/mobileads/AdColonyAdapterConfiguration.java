@@ -13,12 +13,9 @@ import com.adcolony.sdk.AdColonyAppOptions;
 import com.adcolony.sdk.AdColonyAdOptions;
 import com.mopub.common.BaseAdapterConfiguration;
 import com.mopub.common.DataKeys;
-import com.mopub.common.MoPub;
 import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
-import com.mopub.common.privacy.ConsentStatus;
-import com.mopub.common.privacy.PersonalInfoManager;
 import com.mopub.common.util.Json;
 import com.mopub.mobileads.adcolony.BuildConfig;
 
@@ -81,10 +78,13 @@ public class AdColonyAdapterConfiguration extends BaseAdapterConfiguration {
     @Override
     public void initializeNetwork(@NonNull final Context context,
                                   @Nullable final Map<String, String> configuration,
-                                  @NonNull final OnNetworkInitializationFinishedListener listener) {
+                                  @NonNull final OnNetworkInitializationFinishedListener initializationFinishedListener) {
 
         Preconditions.checkNotNull(context);
-        Preconditions.checkNotNull(listener);
+        Preconditions.checkNotNull(initializationFinishedListener);
+
+        final OnNetworkInitializationFinishedListener listener =
+                new AdColonyInitializationTimer(initializationFinishedListener);
 
         boolean networkInitializationSucceeded = false;
 
@@ -147,32 +147,13 @@ public class AdColonyAdapterConfiguration extends BaseAdapterConfiguration {
     protected static AdColonyAppOptions getAdColonyAppOptionsAndSetConsent(String clientOptions) {
         AdColonyAppOptions adColonyAppOptions = AdColonyAppOptions.getMoPubAppOptions(clientOptions);
 
-        // Pass the user consent from the MoPub SDK to AdColony as per GDPR
-        PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
-
-        boolean canCollectPersonalInfo = MoPub.canCollectPersonalInformation();
-        boolean shouldAllowLegitimateInterest = MoPub.shouldAllowLegitimateInterest();
-
         adColonyAppOptions = adColonyAppOptions == null ? new AdColonyAppOptions() :
                 adColonyAppOptions;
 
         adColonyAppOptions.setMediationNetwork("MoPub", ADAPTER_VERSION);
 
-        if (personalInfoManager != null && personalInfoManager.gdprApplies() == Boolean.TRUE) {
-            adColonyAppOptions.setPrivacyFrameworkRequired(AdColonyAppOptions.GDPR, true);
-            if (shouldAllowLegitimateInterest) {
-                if (personalInfoManager.getPersonalInfoConsentStatus() == ConsentStatus.EXPLICIT_NO
-                        || personalInfoManager.getPersonalInfoConsentStatus() == ConsentStatus.DNT) {
-                    adColonyAppOptions.setPrivacyConsentString(AdColonyAppOptions.GDPR, "0");
-                } else {
-                    adColonyAppOptions.setPrivacyConsentString(AdColonyAppOptions.GDPR, "1");
-                }
-            } else if (canCollectPersonalInfo) {
-                adColonyAppOptions.setPrivacyConsentString(AdColonyAppOptions.GDPR, "1");
-            } else {
-                adColonyAppOptions.setPrivacyConsentString(AdColonyAppOptions.GDPR, "0");
-            }
-        }
+        // Pass the user consent from the MoPub SDK to AdColony as per GDPR
+        AdColonyConsentTracker.applyTo(adColonyAppOptions);
         return adColonyAppOptions;
     }
 
@@ -32,6 +32,14 @@ public class AdColonyBanner extends BaseAd {
 
     private static final String ADAPTER_NAME = AdColonyBanner.class.getSimpleName();
 
+    // The sizes AdColony serves, largest first.
+    private static final AdColonyAdSize[] SUPPORTED_SIZES = {
+            AdColonyAdSize.SKYSCRAPER,
+            AdColonyAdSize.MEDIUM_RECTANGLE,
+            AdColonyAdSize.LEADERBOARD,
+            AdColonyAdSize.BANNER
+    };
+
     private AdColonyAdViewListener mAdColonyBannerListener;
     private final Handler mHandler;
 
@@ -225,19 +233,14 @@ public class AdColonyBanner extends BaseAd {
         final Integer height = adData.getAdHeight();
 
         if (width != null && height != null) {
-
-            if (height >= AdColonyAdSize.SKYSCRAPER.getHeight() && width >= AdColonyAdSize.SKYSCRAPER.getWidth()) {
-                return AdColonyAdSize.SKYSCRAPER;
-            } else if (height >= AdColonyAdSize.MEDIUM_RECTANGLE.getHeight() && width >= AdColonyAdSize.MEDIUM_RECTANGLE.getWidth()) {
-                return AdColonyAdSize.MEDIUM_RECTANGLE;
-            } else if (height >= AdColonyAdSize.LEADERBOARD.getHeight() && width >= AdColonyAdSize.LEADERBOARD.getWidth()) {
-                return AdColonyAdSize.LEADERBOARD;
-            } else if (height >= AdColonyAdSize.BANNER.getHeight() && width >= AdColonyAdSize.BANNER.getWidth()) {
-                return AdColonyAdSize.BANNER;
-            } else {
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Requested ad size doesn't fit to any banner size supported by AdColony, will abort request.");
-                return null;
+            for (final AdColonyAdSize adSize : SUPPORTED_SIZES) {
+                if (height >= adSize.getHeight() && width >= adSize.getWidth()) {
+                    return adSize;
+                }
             }
+
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Requested ad size doesn't fit to any banner size supported by AdColony, will abort request.");
+            return null;
         }
 
         MoPubLog.log(CUSTOM, ADAPTER_NAME, "Requested ad size is invalid, will abort request.");
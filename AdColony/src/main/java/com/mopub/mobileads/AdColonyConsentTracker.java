@@ -0,0 +1,124 @@
+package com.mopub.mobileads;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.adcolony.sdk.AdColony;
+import com.adcolony.sdk.AdColonyAppOptions;
+import com.mopub.common.MoPub;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.privacy.ConsentStatus;
+import com.mopub.common.privacy.ConsentStatusChangeListener;
+import com.mopub.common.privacy.PersonalInfoManager;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/** Works out the GDPR consent to pass from the MoPub SDK to AdColony, only when it changes. */
+final class AdColonyConsentTracker {
+    private static final String ADAPTER_NAME = AdColonyConsentTracker.class.getSimpleName();
+
+    private static volatile boolean sIsSettled;
+    private static volatile boolean sAllowedLegitimateInterest;
+    // "1" or "0" when GDPR applies, or null when it doesn't or isn't known yet.
+    @Nullable
+    private static volatile String sConsent;
+
+    // Guarded by AdColonyConsentTracker.class.
+    private static boolean sIsListening;
+
+    private static final ConsentStatusChangeListener sConsentStatusChangeListener =
+            new ConsentStatusChangeListener() {
+                @Override
+                public void onConsentStateChange(@NonNull ConsentStatus oldConsentStatus,
+                                                 @NonNull ConsentStatus newConsentStatus,
+                                                 boolean canCollectPersonalInformation) {
+                    synchronized (AdColonyConsentTracker.class) {
+                        final PersonalInfoManager personalInfoManager =
+                                MoPub.getPersonalInformationManager();
+                        if (personalInfoManager != null && refresh(personalInfoManager)) {
+                            pushToAdColony();
+                        }
+                    }
+                }
+            };
+
+    private AdColonyConsentTracker() {
+    }
+
+    /**
+     * Sets the current GDPR consent on the given app options, if GDPR applies.
+     */
+    static void applyTo(@NonNull final AdColonyAppOptions adColonyAppOptions) {
+        if (!sIsSettled || sAllowedLegitimateInterest != MoPub.shouldAllowLegitimateInterest()) {
+            synchronized (AdColonyConsentTracker.class) {
+                final PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
+                if (personalInfoManager != null) {
+                    if (!sIsListening) {
+                        personalInfoManager.subscribeConsentStatusChangeListener(
+                                sConsentStatusChangeListener);
+                        sIsListening = true;
+                    }
+
+                    refresh(personalInfoManager);
+
+                    // Whether GDPR applies isn't reported as a consent change, so keep checking on
+                    // every load until the MoPub SDK knows.
+                    sIsSettled = personalInfoManager.gdprApplies() != null;
+                }
+            }
+        }
+
+        applyConsent(adColonyAppOptions, sConsent);
+    }
+
+    // Must hold AdColonyConsentTracker.class. Returns whether the consent changed.
+    private static boolean refresh(@NonNull final PersonalInfoManager personalInfoManager) {
+        final boolean shouldAllowLegitimateInterest = MoPub.shouldAllowLegitimateInterest();
+        sAllowedLegitimateInterest = shouldAllowLegitimateInterest;
+
+        final String consent;
+        if (personalInfoManager.gdprApplies() != Boolean.TRUE) {
+            consent = null;
+        } else if (shouldAllowLegitimateInterest) {
+            final ConsentStatus consentStatus = personalInfoManager.getPersonalInfoConsentStatus();
+            consent = consentStatus == ConsentStatus.EXPLICIT_NO
+                    || consentStatus == ConsentStatus.DNT ? "0" : "1";
+        } else {
+            consent = MoPub.canCollectPersonalInformation() ? "1" : "0";
+        }
+
+        if (TextUtils.equals(consent, sConsent)) {
+            return false;
+        }
+
+        sConsent = consent;
+        return true;
+    }
+
+    // Must hold AdColonyConsentTracker.class.
+    private static void pushToAdColony() {
+        if (!AdColonyAdapterConfiguration.isAdColonyConfigured()) {
+            // The consent is set on the app options AdColony is configured with.
+            return;
+        }
+
+        final AdColonyAppOptions adColonyAppOptions = AdColony.getAppOptions();
+        if (adColonyAppOptions == null || sConsent == null) {
+            return;
+        }
+
+        applyConsent(adColonyAppOptions, sConsent);
+        AdColony.setAppOptions(adColonyAppOptions);
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Passed user consent to AdColony: " + sConsent);
+    }
+
+    private static void applyConsent(@NonNull final AdColonyAppOptions adColonyAppOptions,
+                                     @Nullable final String consent) {
+        if (consent != null) {
+            adColonyAppOptions.setPrivacyFrameworkRequired(AdColonyAppOptions.GDPR, true);
+            adColonyAppOptions.setPrivacyConsentString(AdColonyAppOptions.GDPR, consent);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import com.mopub.common.util.Json;
 
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -43,6 +44,7 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
 public class AdColonyRewardedVideo extends BaseAd {
 
     private static final String ADAPTER_NAME = AdColonyRewardedVideo.class.getSimpleName();
+    private static final long LOAD_TIMEOUT_MILLIS = 30000;
 
     private static boolean sInitialized = false;
     private static LifecycleListener sLifecycleListener = new BaseLifecycleListener();
@@ -68,12 +70,16 @@ public class AdColonyRewardedVideo extends BaseAd {
 
     private AdColonyAppOptions mAdColonyAppOptions;
 
-    // For waiting and notifying the SDK:
+    // Shared by all rewarded instances and only used to time out loads that never get a callback.
+    @Nullable
+    private static ScheduledThreadPoolExecutor sTimeoutExecutor;
+
+    // For notifying the SDK on the main thread:
     private final Handler mHandler;
-    private final ScheduledThreadPoolExecutor mScheduledThreadPoolExecutor;
+    @Nullable
+    private ScheduledFuture<?> mLoadTimeoutFuture;
 
     public AdColonyRewardedVideo() {
-        mScheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1);
         mHandler = new Handler(Looper.getMainLooper());
         mAdColonyAdapterConfiguration = new AdColonyAdapterConfiguration();
     }
@@ -86,7 +92,8 @@ public class AdColonyRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
-        mScheduledThreadPoolExecutor.shutdownNow();
+        cancelLoadTimeout();
+        mIsLoading = false;
         AdColonyInterstitial ad = sZoneIdToAdMap.get(mZoneId);
         if (ad != null) {
             ad.destroy();
@@ -216,8 +223,8 @@ public class AdColonyRewardedVideo extends BaseAd {
 
         final AdColonyListener mAdColonyListener = new AdColonyListener(mAdColonyAdOptions);
         AdColony.setRewardListener(mAdColonyListener);
+        scheduleLoadTimeout();
         AdColony.requestInterstitial(mZoneId, mAdColonyListener, mAdColonyAdOptions);
-        scheduleOnVideoReady();
         MoPubLog.log(getAdNetworkId(), LOAD_ATTEMPTED, ADAPTER_NAME);
     }
 
@@ -257,44 +264,85 @@ public class AdColonyRewardedVideo extends BaseAd {
         }
     }
 
-    private void scheduleOnVideoReady() {
-        Runnable runnable = new Runnable() {
+    @NonNull
+    private static synchronized ScheduledThreadPoolExecutor getTimeoutExecutor() {
+        if (sTimeoutExecutor == null) {
+            sTimeoutExecutor = new ScheduledThreadPoolExecutor(1);
+        }
+        return sTimeoutExecutor;
+    }
+
+    private void scheduleLoadTimeout() {
+        if (mIsLoading) {
+            return;
+        }
+
+        mIsLoading = true;
+        mLoadTimeoutFuture = getTimeoutExecutor().schedule(new Runnable() {
             @Override
             public void run() {
-                if (isAdAvailable(mZoneId)) {
-                    mAd = sZoneIdToAdMap.get(mZoneId);
-                    mIsLoading = false;
-                    mScheduledThreadPoolExecutor.shutdownNow();
-                    mHandler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (mLoadListener == null) {
-                                MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
-                                        MoPubErrorCode.NETWORK_INVALID_STATE.getIntCode(),
-                                        MoPubErrorCode.NETWORK_INVALID_STATE);
-                                return;
-                            }
-                            if (hasVideoAvailable()) {
-                                MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
-                                mLoadListener.onAdLoaded();
-                            } else {
-                                MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
-                                mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
-                            }
-                        }
-                    });
-                }
+                mHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onLoadTimeout();
+                    }
+                });
             }
-        };
+        }, LOAD_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelLoadTimeout() {
+        if (mLoadTimeoutFuture != null) {
+            mLoadTimeoutFuture.cancel(false);
+            mLoadTimeoutFuture = null;
+        }
+    }
 
+    /**
+     * Completes the pending load for the zone. Must be called on the main thread; only the first
+     * outcome (fill, no fill or timeout) of a load is reported.
+     */
+    private boolean completeLoad() {
         if (!mIsLoading) {
-            mScheduledThreadPoolExecutor.scheduleAtFixedRate(runnable, 1, 1, TimeUnit.SECONDS);
-            mIsLoading = true;
+            return false;
         }
+
+        mIsLoading = false;
+        cancelLoadTimeout();
+        return true;
     }
 
-    private boolean isAdAvailable(String zoneId) {
-        return sZoneIdToAdMap.get(zoneId) != null;
+    private void onVideoReady(@NonNull final AdColonyInterstitial ad) {
+        if (!completeLoad()) {
+            return;
+        }
+
+        mAd = ad;
+
+        if (mLoadListener == null) {
+            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
+                    MoPubErrorCode.NETWORK_INVALID_STATE.getIntCode(),
+                    MoPubErrorCode.NETWORK_INVALID_STATE);
+            return;
+        }
+        if (hasVideoAvailable()) {
+            MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+            mLoadListener.onAdLoaded();
+        } else {
+            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+            mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+        }
+    }
+
+    private void onLoadTimeout() {
+        if (!completeLoad()) {
+            return;
+        }
+
+        MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_TIMEOUT.getIntCode(), MoPubErrorCode.NETWORK_TIMEOUT);
+        if (mLoadListener != null) {
+            mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_TIMEOUT);
+        }
     }
 
     private class AdColonyListener extends AdColonyInterstitialListener implements AdColonyRewardListener {
@@ -329,17 +377,33 @@ public class AdColonyRewardedVideo extends BaseAd {
         }
 
         @Override
-        public void onRequestFilled(@NonNull AdColonyInterstitial adColonyInterstitial) {
+        public void onRequestFilled(@NonNull final AdColonyInterstitial adColonyInterstitial) {
             sZoneIdToAdMap.put(adColonyInterstitial.getZoneID(), adColonyInterstitial);
+
+            mHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    onVideoReady(adColonyInterstitial);
+                }
+            });
         }
 
         @Override
         public void onRequestNotFilled(@NonNull AdColonyZone zone) {
-            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "AdColony rewarded ad has no fill");
-            if (mLoadListener != null) {
-                mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
-            }
-            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+            mHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    if (!completeLoad()) {
+                        return;
+                    }
+
+                    MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "AdColony rewarded ad has no fill");
+                    if (mLoadListener != null) {
+                        mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
+                    }
+                    MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(), MoPubErrorCode.NETWORK_NO_FILL);
+                }
+            });
         }
 
         @Override
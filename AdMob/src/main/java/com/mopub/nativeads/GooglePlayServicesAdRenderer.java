@@ -80,6 +80,9 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
      */
     private final WeakHashMap<View, GoogleStaticNativeViewHolder> mViewHolderMap;
 
+    // Views inflated ahead of time by preInflateAdViews.
+    private final GooglePlayServicesAdViewPool mAdViewPool;
+
     /**
      * String to store the simple class name for this adapter.
      */
@@ -88,6 +91,21 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
     public GooglePlayServicesAdRenderer(GooglePlayServicesViewBinder viewBinder) {
         this.mViewBinder = viewBinder;
         this.mViewHolderMap = new WeakHashMap<>();
+        this.mAdViewPool = new GooglePlayServicesAdViewPool(new GooglePlayServicesAdViewPool.ViewFactory() {
+            @NonNull
+            @Override
+            public View createView(@NonNull final Context context) {
+                // A stand-in parent so the layout's root still gets its layout params.
+                final View view = inflateAdView(context, new FrameLayout(context));
+                mViewHolderMap.put(view, GoogleStaticNativeViewHolder.fromViewBinder(view, mViewBinder));
+                return view;
+            }
+
+            @Override
+            public void onViewDiscarded(@NonNull final View view) {
+                mViewHolderMap.remove(view);
+            }
+        });
     }
 
     @NonNull
@@ -95,14 +113,43 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
     public View createAdView(@NonNull Context context, @Nullable ViewGroup parent) {
         Preconditions.checkNotNull(context);
 
+        final View preInflatedView = mAdViewPool.poll(context);
+        if (preInflatedView != null) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Pre-inflated ad view reused.");
+            return preInflatedView;
+        }
+
+        final View wrappingView = inflateAdView(context, parent);
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Ad view created.");
+        return wrappingView;
+    }
+
+    /**
+     * Inflates up to {@code count} ad views ahead of time, while the main thread is idle, so that
+     * later calls to {@link #createAdView(Context, ViewGroup)} with the same context can hand out a
+     * ready view whose view holder has already been built. Must be called on the main thread.
+     */
+    public void preInflateAdViews(@NonNull final Context context, final int count) {
+        Preconditions.checkNotNull(context);
+
+        mAdViewPool.fill(context, count);
+    }
+
+    /**
+     * Drops the ad views inflated ahead of time that haven't been handed out yet.
+     */
+    public void clearPreInflatedAdViews() {
+        mAdViewPool.clear();
+    }
+
+    @NonNull
+    private View inflateAdView(@NonNull final Context context, @Nullable final ViewGroup parent) {
         View view = LayoutInflater.from(context).inflate(mViewBinder.layoutId, parent, false);
         // Create a frame layout and add the inflated view as a child. This will allow us to add
         // the Google native ad view into the view hierarchy at render time.
         FrameLayout wrappingView = new FrameLayout(context);
         wrappingView.setId(ID_WRAPPING_FRAME);
         wrappingView.addView(view);
-
-        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Ad view created.");
         return wrappingView;
     }
 
@@ -209,7 +256,7 @@ public class GooglePlayServicesAdRenderer implements MoPubAdRenderer<GooglePlayS
                 staticNativeAd.getCallToAction());
         nativeAdView.setCallToActionView(staticNativeViewHolder.mCallToActionView);
         if (staticNativeAd.getIconImageUrl() != null) {
-            NativeImageHelper.loadImageView(staticNativeAd.getIconImageUrl(),
+            GooglePlayServicesImageLoader.loadImageView(staticNativeAd.getIconImageUrl(),
                     staticNativeViewHolder.mIconImageView);
             nativeAdView.setImageView(staticNativeViewHolder.mIconImageView);
         }
@@ -0,0 +1,292 @@
+package com.mopub.nativeads;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LruCache;
+import android.widget.ImageView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
+
+/**
+ * Downloads and caches the images of Google native ads, decoded no larger than the views they are
+ * shown in. Each image is downsampled with a power-of-two sample size while decoding, so a large
+ * creative never occupies its full resolution in memory. A cached image is only reused for views it
+ * is at least as large as, unless it already is at full resolution.
+ * <p>
+ * At most {@link #MAX_PARALLEL_FETCHES} images are fetched at a time, and concurrent requests for
+ * the same URL share a single download. Must be called on the main thread; listeners are notified
+ * on the main thread.
+ */
+final class GooglePlayServicesImageLoader {
+    private static final int MAX_PARALLEL_FETCHES = 2;
+    private static final int CONNECT_TIMEOUT_MILLIS = 10000;
+    private static final int READ_TIMEOUT_MILLIS = 10000;
+    private static final int MAX_CACHE_BYTES = 8 * 1024 * 1024;
+    private static final int DECODE_BUFFER_BYTES = 16 * 1024;
+
+    interface Listener {
+        void onImageLoaded(@NonNull Bitmap bitmap);
+
+        void onImageFailed();
+    }
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+    private static final ExecutorService sExecutor =
+            Executors.newFixedThreadPool(MAX_PARALLEL_FETCHES);
+
+    private static final LruCache<String, CachedImage> sCache =
+            new LruCache<String, CachedImage>((int) Math.min(MAX_CACHE_BYTES,
+                    Runtime.getRuntime().maxMemory() / 16)) {
+                @Override
+                protected int sizeOf(String url, CachedImage image) {
+                    return image.bitmap.getByteCount();
+                }
+            };
+
+    // Each fetch thread decodes with its own scratch buffer instead of allocating one per image.
+    private static final ThreadLocal<byte[]> sDecodeBuffer = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[DECODE_BUFFER_BYTES];
+        }
+    };
+
+    // Only accessed on the main thread.
+    private static final Map<String, List<Waiter>> sInFlight = new HashMap<>();
+    // The URL each image view is currently waiting for. Only accessed on the main thread.
+    private static final Map<ImageView, String> sPendingViews = new WeakHashMap<>();
+
+    private static class CachedImage {
+        @NonNull
+        final Bitmap bitmap;
+        final boolean isFullResolution;
+
+        CachedImage(@NonNull final Bitmap bitmap, final boolean isFullResolution) {
+            this.bitmap = bitmap;
+            this.isFullResolution = isFullResolution;
+        }
+
+        boolean fits(final int width, final int height) {
+            return isFullResolution || (bitmap.getWidth() >= width && bitmap.getHeight() >= height);
+        }
+    }
+
+    private static class Waiter {
+        @NonNull
+        final Listener listener;
+        final int reqWidth;
+        final int reqHeight;
+
+        Waiter(@NonNull final Listener listener, final int reqWidth, final int reqHeight) {
+            this.listener = listener;
+            this.reqWidth = reqWidth;
+            this.reqHeight = reqHeight;
+        }
+    }
+
+    private GooglePlayServicesImageLoader() {
+    }
+
+    /**
+     * Makes sure the image is in the cache, decoded to fit within the given size.
+     */
+    static void preCache(@NonNull final String url, final int reqWidth, final int reqHeight,
+                         @NonNull final Listener listener) {
+        Preconditions.checkNotNull(url);
+        Preconditions.checkNotNull(listener);
+
+        final CachedImage cached = sCache.get(url);
+        if (cached != null && cached.fits(reqWidth, reqHeight)) {
+            listener.onImageLoaded(cached.bitmap);
+            return;
+        }
+
+        // A download already in flight is joined even if it decodes smaller; the waiter fetches
+        // again at its own size once it finishes.
+        List<Waiter> waiters = sInFlight.get(url);
+        if (waiters != null) {
+            waiters.add(new Waiter(listener, reqWidth, reqHeight));
+            return;
+        }
+
+        waiters = new ArrayList<>(1);
+        waiters.add(new Waiter(listener, reqWidth, reqHeight));
+        sInFlight.put(url, waiters);
+
+        sExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final CachedImage image = fetch(url, reqWidth, reqHeight);
+                sMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onFetchFinished(url, image);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Shows the image in the view, fetching it at the view's size if it isn't cached yet. A view
+     * that is bound to another URL before the image arrives keeps the newer image.
+     */
+    static void loadImageView(@NonNull final String url, @Nullable final ImageView imageView) {
+        Preconditions.checkNotNull(url);
+
+        if (imageView == null) {
+            return;
+        }
+
+        final int reqWidth = imageView.getWidth() > 0
+                ? imageView.getWidth() : getDefaultSize(imageView.getContext());
+        final int reqHeight = imageView.getHeight() > 0
+                ? imageView.getHeight() : getDefaultSize(imageView.getContext());
+
+        final CachedImage cached = sCache.get(url);
+        if (cached != null && cached.fits(reqWidth, reqHeight)) {
+            sPendingViews.remove(imageView);
+            imageView.setImageBitmap(cached.bitmap);
+            return;
+        }
+
+        imageView.setImageDrawable(null);
+        sPendingViews.put(imageView, url);
+
+        preCache(url, reqWidth, reqHeight, new Listener() {
+            @Override
+            public void onImageLoaded(@NonNull final Bitmap bitmap) {
+                if (url.equals(sPendingViews.get(imageView))) {
+                    sPendingViews.remove(imageView);
+                    imageView.setImageBitmap(bitmap);
+                }
+            }
+
+            @Override
+            public void onImageFailed() {
+                if (url.equals(sPendingViews.get(imageView))) {
+                    sPendingViews.remove(imageView);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return the size images are decoded to when the view they'll be shown in isn't known yet.
+     */
+    static int getDefaultSize(@NonNull final Context context) {
+        // Comfortably larger than the icons of the usual native ad layouts.
+        return (int) (100 * context.getResources().getDisplayMetrics().density);
+    }
+
+    private static void onFetchFinished(@NonNull final String url, @Nullable final CachedImage image) {
+        if (image != null) {
+            // Keep whichever decode is larger, so it serves the most views.
+            final CachedImage cached = sCache.get(url);
+            if (cached == null || cached.bitmap.getByteCount() < image.bitmap.getByteCount()) {
+                sCache.put(url, image);
+            }
+        }
+
+        final List<Waiter> waiters = sInFlight.remove(url);
+        if (waiters == null) {
+            return;
+        }
+
+        for (final Waiter waiter : waiters) {
+            if (image == null) {
+                waiter.listener.onImageFailed();
+            } else if (image.fits(waiter.reqWidth, waiter.reqHeight)) {
+                waiter.listener.onImageLoaded(image.bitmap);
+            } else {
+                preCache(url, waiter.reqWidth, waiter.reqHeight, waiter.listener);
+            }
+        }
+    }
+
+    @Nullable
+    private static CachedImage fetch(@NonNull final String url, final int reqWidth,
+                                     final int reqHeight) {
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+
+            final byte[] data = readFully(connection.getInputStream());
+
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inTempStorage = sDecodeBuffer.get();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray(data, 0, data.length, options);
+
+            options.inSampleSize = calculateInSampleSize(options.outWidth, options.outHeight,
+                    reqWidth, reqHeight);
+            options.inJustDecodeBounds = false;
+            final Bitmap bitmap = BitmapFactory.decodeByteArray(data, 0, data.length, options);
+            return bitmap == null ? null : new CachedImage(bitmap, options.inSampleSize == 1);
+        } catch (IOException | RuntimeException | OutOfMemoryError e) {
+            // Anything thrown here would otherwise kill the fetch thread and leave the URL in
+            // flight, so its waiters would never hear back.
+            MoPubLog.log(CUSTOM_WITH_THROWABLE, "Failed to fetch Google native ad image: " + url, e);
+            return null;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    @NonNull
+    private static byte[] readFully(@NonNull final InputStream inputStream) throws IOException {
+        try {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[DECODE_BUFFER_BYTES];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * @return the largest power of two that keeps both dimensions at least as large as requested.
+     */
+    private static int calculateInSampleSize(final int width, final int height,
+                                             final int reqWidth, final int reqHeight) {
+        int inSampleSize = 1;
+        if (reqWidth <= 0 || reqHeight <= 0) {
+            return inSampleSize;
+        }
+
+        while (width / (inSampleSize * 2) >= reqWidth && height / (inSampleSize * 2) >= reqHeight) {
+            inSampleSize *= 2;
+        }
+        return inSampleSize;
+    }
+}
@@ -1,6 +1,7 @@
 package com.mopub.nativeads;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.text.TextUtils;
 import android.view.View;
 
@@ -18,7 +19,6 @@ import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.GooglePlayServicesAdapterConfiguration;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -384,22 +384,7 @@ public class GooglePlayServicesNative extends CustomEventNative {
                                     }
 
                                     mNativeAd = nativeAd;
-                                    List<com.google.android.gms.ads.nativead.NativeAd.Image> images =
-                                            nativeAd.getImages();
-                                    List<String> imageUrls = new ArrayList<>();
-                                    com.google.android.gms.ads.nativead.NativeAd.Image mainImage =
-                                            images.get(0);
-
-                                    // Assuming that the URI provided is an URL.
-                                    imageUrls.add(mainImage.getUri().toString());
-
-                                    if (nativeAd.getIcon() != null) {
-                                        com.google.android.gms.ads.nativead.NativeAd.Image iconImage =
-                                                nativeAd.getIcon();
-                                        // Assuming that the URI provided is an URL.
-                                        imageUrls.add(iconImage.getUri().toString());
-                                    }
-                                    preCacheImages(context, imageUrls);
+                                    preCacheImages(context, nativeAd);
                                 }
                             }).withAdListener(new AdListener() {
                         @Override
@@ -589,29 +574,34 @@ public class GooglePlayServicesNative extends CustomEventNative {
         }
 
         /**
-         * This method will try to cache images and send success/failure callbacks based on
-         * whether or not the image caching succeeded.
+         * This method will try to cache the icon image and send success/failure callbacks based
+         * on whether or not the image caching succeeded. The main image is not cached since it
+         * is rendered by Google's {@link com.google.android.gms.ads.nativead.MediaView}.
          *
-         * @param context   required to pre-cache images.
-         * @param imageUrls the urls of images that need to be cached.
+         * @param context  required to size the cached image.
+         * @param nativeAd the Google native ad whose images need to be cached.
          */
-        private void preCacheImages(Context context, List<String> imageUrls) {
-            NativeImageHelper.preCacheImages(context, imageUrls,
-                    new NativeImageHelper.ImageListener() {
-                        @Override
-                        public void onImagesCached() {
-                            if (mNativeAd != null) {
-                                prepareNativeAd(mNativeAd);
-                                mCustomEventNativeListener.onNativeAdLoaded(
-                                        GooglePlayServicesNativeAd.this);
+        private void preCacheImages(Context context, NativeAd nativeAd) {
+            if (nativeAd.getIcon() == null || nativeAd.getIcon().getUri() == null) {
+                onImagesCached();
+                return;
+            }
 
-                                MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
-                            }
+            // Assuming that the URI provided is an URL.
+            final int iconSize = GooglePlayServicesImageLoader.getDefaultSize(context);
+            GooglePlayServicesImageLoader.preCache(nativeAd.getIcon().getUri().toString(),
+                    iconSize, iconSize, new GooglePlayServicesImageLoader.Listener() {
+                        @Override
+                        public void onImageLoaded(@NonNull Bitmap bitmap) {
+                            onImagesCached();
                         }
 
                         @Override
-                        public void onImagesFailedToCache(NativeErrorCode errorCode) {
-                            mCustomEventNativeListener.onNativeAdFailed(errorCode);
+                        public void onImageFailed() {
+                            final NativeErrorCode errorCode = NativeErrorCode.IMAGE_DOWNLOAD_FAILURE;
+                            if (mCustomEventNativeListener != null) {
+                                mCustomEventNativeListener.onNativeAdFailed(errorCode);
+                            }
 
                             MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
                                     errorCode.getIntCode(),
@@ -620,6 +610,15 @@ public class GooglePlayServicesNative extends CustomEventNative {
                     });
         }
 
+        private void onImagesCached() {
+            if (mNativeAd != null && mCustomEventNativeListener != null) {
+                prepareNativeAd(mNativeAd);
+                mCustomEventNativeListener.onNativeAdLoaded(GooglePlayServicesNativeAd.this);
+
+                MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
+            }
+        }
+
         /**
          * This method will map the Google native ad loaded to this
          * {@link GooglePlayServicesNativeAd}.
@@ -2,8 +2,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.text.TextUtils;
 import android.view.View;
 
@@ -19,12 +17,10 @@ import com.applovin.sdk.AppLovinAdDisplayListener;
 import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdSize;
 import com.applovin.sdk.AppLovinMediationProvider;
-import com.applovin.sdk.AppLovinPrivacySettings;
 import com.applovin.sdk.AppLovinSdk;
 import com.applovin.sdk.AppLovinSdkSettings;
 import com.mopub.common.DataKeys;
 import com.mopub.common.LifecycleListener;
-import com.mopub.common.MoPub;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 
@@ -43,9 +39,12 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
 public class AppLovinBanner extends BaseAd {
 
     private static final String ADAPTER_NAME = AppLovinBanner.class.getSimpleName();
-    private static final Handler UI_HANDLER = new Handler(Looper.getMainLooper());
     private static final String ZONE_ID_EXTRAS_KEY = "zone_id";
 
+    // The inline sizes an AppLovin ad view can show, tried in order until one fits the container.
+    private static final AppLovinAdSize[] SUPPORTED_SIZES =
+            {AppLovinAdSize.LEADER, AppLovinAdSize.MREC, AppLovinAdSize.BANNER};
+
     private String mZoneId;
     private AppLovinAdView mAdView;
 
@@ -74,9 +73,7 @@ public class AppLovinBanner extends BaseAd {
         }
 
         mZoneId = extras.get(ZONE_ID_EXTRAS_KEY);
-        // Pass the user consent from the MoPub SDK to AppLovin as per GDPR
-        boolean canCollectPersonalInfo = MoPub.canCollectPersonalInformation();
-        AppLovinPrivacySettings.setHasUserConsent(canCollectPersonalInfo, context);
+        AppLovinConsentTracker.update(context);
 
         String adUnitFormat = extras.get(ADUNIT_FORMAT);
         if (!TextUtils.isEmpty(adUnitFormat)) {
@@ -104,8 +101,10 @@ public class AppLovinBanner extends BaseAd {
             final String adMarkup = extras.get(DataKeys.ADM_KEY);
             final boolean hasAdMarkup = !TextUtils.isEmpty(adMarkup);
 
-            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Requesting AppLovin banner with extras: " +
-                    extras + " and has ad markup: " + hasAdMarkup);
+            if (AppLovinLog.isLoggable(CUSTOM)) {
+                MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Requesting AppLovin banner with extras: " +
+                        extras + " and has ad markup: " + hasAdMarkup);
+            }
 
             AppLovinSdk sdk = retrieveSdk(context);
 
@@ -185,7 +184,7 @@ public class AppLovinBanner extends BaseAd {
                 @Override
                 public void adReceived(final AppLovinAd ad) {
                     // Ensure logic is ran on main queue
-                    runOnUiThread(new Runnable() {
+                    AppLovinMainThreadDispatcher.runOnUiThread(new Runnable() {
                         @Override
                         public void run() {
                             MoPubLog.log(getAdNetworkId(), LOAD_SUCCESS, ADAPTER_NAME);
@@ -209,7 +208,7 @@ public class AppLovinBanner extends BaseAd {
                 @Override
                 public void failedToReceiveAd(final int errorCode) {
                     // Ensure logic is ran on main queue
-                    runOnUiThread(new Runnable() {
+                    AppLovinMainThreadDispatcher.runOnUiThread(new Runnable() {
                         @Override
                         public void run() {
                             MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Failed to load banner ad with code: ",
@@ -272,29 +271,33 @@ public class AppLovinBanner extends BaseAd {
         return null;
     }
 
+    @Nullable
     private AppLovinAdSize appLovinAdSizeFromAdData(@NonNull final AdData adData) {
-        // Default to standard banner size
-        AppLovinAdSize adSize = AppLovinAdSize.BANNER;
+        final int width = adData.getAdWidth() != null ? adData.getAdWidth() : 0;
+        final int height = adData.getAdHeight() != null ? adData.getAdHeight() : 0;
 
-        try {
-            final int width = adData.getAdWidth() != null ? adData.getAdWidth() : 0;
-            final int height = adData.getAdHeight() != null ? adData.getAdHeight() : 0;
-
-            if (width > 0 && height > 0) {
-                // Size can contain an AppLovin leaderboard ad size of 728x90
-                if (width >= 728 && height >= 90) {
-                    adSize = AppLovinAdSize.LEADER;
-                }
-            } else {
+        if (width <= 0 || height <= 0) {
+            if (AppLovinLog.isLoggable(CUSTOM)) {
                 MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Invalid width (" + width + ") and height " +
                         "(" + height + ") provided");
             }
-        } catch (Throwable th) {
-            MoPubLog.log(getAdNetworkId(), CUSTOM_WITH_THROWABLE, "Encountered error while parsing width and " +
-                    "height from extras", th);
+
+            // Default to standard banner size
+            return AppLovinAdSize.BANNER;
+        }
+
+        for (final AppLovinAdSize adSize : SUPPORTED_SIZES) {
+            if (width >= adSize.getWidth() && height >= adSize.getHeight()) {
+                return adSize;
+            }
         }
 
-        return adSize;
+        // A banner that doesn't fit its container would be cut off, so don't request one.
+        if (AppLovinLog.isLoggable(CUSTOM)) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Requested ad size " + width + "x" +
+                    height + " doesn't fit any banner size supported by AppLovin");
+        }
+        return null;
     }
 
     @NonNull
@@ -329,15 +332,4 @@ public class AppLovinBanner extends BaseAd {
             return AppLovinSdk.getInstance(context);
         }
     }
-
-    /**
-     * Performs the given runnable on the main thread.
-     */
-    private static void runOnUiThread(final Runnable runnable) {
-        if (Looper.myLooper() == Looper.getMainLooper()) {
-            runnable.run();
-        } else {
-            UI_HANDLER.post(runnable);
-        }
-    }
 }
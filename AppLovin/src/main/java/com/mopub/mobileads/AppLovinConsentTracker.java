@@ -0,0 +1,85 @@
+package com.mopub.mobileads;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.applovin.sdk.AppLovinPrivacySettings;
+import com.mopub.common.MoPub;
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.privacy.ConsentStatus;
+import com.mopub.common.privacy.ConsentStatusChangeListener;
+import com.mopub.common.privacy.PersonalInfoManager;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/** Passes the user consent from the MoPub SDK to AppLovin as per GDPR, only when it changes. */
+final class AppLovinConsentTracker {
+    private static final String ADAPTER_NAME = AppLovinConsentTracker.class.getSimpleName();
+
+    private static volatile boolean sIsListening;
+
+    // Guarded by AppLovinConsentTracker.class.
+    @Nullable
+    private static Boolean sHasUserConsent;
+    @Nullable
+    private static Context sApplicationContext;
+
+    private static final ConsentStatusChangeListener sConsentStatusChangeListener =
+            new ConsentStatusChangeListener() {
+                @Override
+                public void onConsentStateChange(@NonNull ConsentStatus oldConsentStatus,
+                                                 @NonNull ConsentStatus newConsentStatus,
+                                                 boolean canCollectPersonalInformation) {
+                    synchronized (AppLovinConsentTracker.class) {
+                        pushIfChanged(canCollectPersonalInformation);
+                    }
+                }
+            };
+
+    private AppLovinConsentTracker() {
+    }
+
+    /**
+     * Makes sure AppLovin has the current user consent.
+     */
+    static void update(@NonNull final Context context) {
+        Preconditions.checkNotNull(context);
+
+        if (sIsListening) {
+            return;
+        }
+
+        synchronized (AppLovinConsentTracker.class) {
+            if (sIsListening) {
+                return;
+            }
+
+            sApplicationContext = context.getApplicationContext();
+
+            // Until the MoPub SDK is initialized there is nothing to listen to, so the consent is
+            // checked on every load instead.
+            final PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
+            if (personalInfoManager != null) {
+                personalInfoManager.subscribeConsentStatusChangeListener(sConsentStatusChangeListener);
+                sIsListening = true;
+            }
+
+            pushIfChanged(MoPub.canCollectPersonalInformation());
+        }
+    }
+
+    // Must hold AppLovinConsentTracker.class.
+    private static void pushIfChanged(final boolean hasUserConsent) {
+        if (sApplicationContext == null
+                || (sHasUserConsent != null && sHasUserConsent == hasUserConsent)) {
+            return;
+        }
+
+        AppLovinPrivacySettings.setHasUserConsent(hasUserConsent, sApplicationContext);
+        sHasUserConsent = hasUserConsent;
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Passed user consent to AppLovin: " + hasUserConsent);
+    }
+}
@@ -2,8 +2,6 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
@@ -18,19 +16,14 @@ import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdSize;
 import com.applovin.sdk.AppLovinAdVideoPlaybackListener;
 import com.applovin.sdk.AppLovinMediationProvider;
-import com.applovin.sdk.AppLovinPrivacySettings;
 import com.applovin.sdk.AppLovinSdk;
 import com.applovin.sdk.AppLovinSdkSettings;
 import com.mopub.common.DataKeys;
 import com.mopub.common.LifecycleListener;
-import com.mopub.common.MoPub;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CLICKED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
@@ -49,17 +42,9 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
 
     private static final String ADAPTER_NAME = AppLovinInterstitial.class.getSimpleName();
 
-    private static final Handler UI_HANDLER = new Handler(Looper.getMainLooper());
-
     private AppLovinSdk sdk;
     private Context context;
 
-    // A map of Zone -> Queue of `AppLovinAd`s to be shared by instances of the custom event.
-    // This prevents skipping of ads as this adapter will be re-created and preloaded
-    // on every ad load regardless if ad was actually displayed or not.
-    private static final Map<String, Queue<AppLovinAd>> GLOBAL_INTERSTITIAL_ADS = new HashMap<>();
-    private static final Object GLOBAL_INTERSTITIAL_ADS_LOCK = new Object();
-
     private boolean isTokenEvent;
     private AppLovinAd tokenAd;
 
@@ -92,9 +77,7 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
 
         setAutomaticImpressionAndClickTracking(false);
 
-        // Pass the user consent from the MoPub SDK to AppLovin as per GDPR
-        boolean canCollectPersonalInfo = MoPub.canCollectPersonalInformation();
-        AppLovinPrivacySettings.setHasUserConsent(canCollectPersonalInfo, context);
+        AppLovinConsentTracker.update(context);
 
         // Store parent objects
         this.context = context;
@@ -121,8 +104,10 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
         final String adMarkup = extras.get(DataKeys.ADM_KEY);
         final boolean hasAdMarkup = !TextUtils.isEmpty(adMarkup);
 
-        MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Requesting AppLovin interstitial with extras: " +
-                extras + " and has adMarkup: " + hasAdMarkup);
+        if (AppLovinLog.isLoggable(CUSTOM)) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Requesting AppLovin interstitial with extras: " +
+                    extras + " and has adMarkup: " + hasAdMarkup);
+        }
 
         mAppLovinAdapterConfiguration.setCachedInitializationParameters(context, extras);
 
@@ -136,11 +121,13 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
             final String extrasZoneId = extras.get(ZONE_ID_EXTRAS_KEY);
             mZoneId = !TextUtils.isEmpty(extrasZoneId) ? extrasZoneId : DEFAULT_ZONE;
 
-            // Check if we already have a preloaded ad for the given zone
-            final AppLovinAd preloadedAd = dequeueAd(mZoneId);
-            if (preloadedAd != null) {
-                MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Found preloaded ad for zone: {" + mZoneId + "}");
-                adReceived(preloadedAd);
+            // Check if we already have a preloaded ad for the given zone. It stays in the pool
+            // until show() so that it is not lost if this instance is never shown.
+            if (AppLovinInterstitialAdPool.hasAd(mZoneId)) {
+                if (AppLovinLog.isLoggable(CUSTOM)) {
+                    MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Found preloaded ad for zone: {" + mZoneId + "}");
+                }
+                notifyAdLoaded();
             }
             // No ad currently preloaded
             else {
@@ -164,7 +151,7 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
         if (isTokenEvent && tokenAd != null) {
             preloadedAd = tokenAd;
         } else {
-            preloadedAd = dequeueAd(mZoneId);
+            preloadedAd = AppLovinInterstitialAdPool.poll(mZoneId);
         }
 
         if (preloadedAd != null) {
@@ -173,6 +160,15 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
             interstitialAd.setAdClickListener(this);
             interstitialAd.setAdVideoPlaybackListener(this);
             interstitialAd.showAndRender(preloadedAd);
+
+            if (!isTokenEvent) {
+                AppLovinInterstitialAdPool.topUp(sdk, mZoneId);
+                if (AppLovinLog.isLoggable(CUSTOM)) {
+                    MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Preloaded ad pool hit rate: " +
+                            AppLovinInterstitialAdPool.getHitRate() + ", stale ads discarded: " +
+                            AppLovinInterstitialAdPool.getStaleCount());
+                }
+            }
         } else {
             MoPubLog.log(getAdNetworkId(), SHOW_FAILED, ADAPTER_NAME, MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
                     MoPubErrorCode.NETWORK_NO_FILL);
@@ -206,10 +202,14 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
         if (isTokenEvent) {
             tokenAd = ad;
         } else {
-            enqueueAd(ad, mZoneId);
+            AppLovinInterstitialAdPool.offer(mZoneId, ad);
         }
 
-        runOnUiThread(new Runnable() {
+        notifyAdLoaded();
+    }
+
+    private void notifyAdLoaded() {
+        AppLovinMainThreadDispatcher.runOnUiThread(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -229,7 +229,7 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
     @Override
     public void failedToReceiveAd(final int errorCode) {
 
-        runOnUiThread(new Runnable() {
+        AppLovinMainThreadDispatcher.runOnUiThread(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -311,29 +311,6 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
     // Utility Methods
     //
 
-    private static AppLovinAd dequeueAd(final String zoneId) {
-        synchronized (GLOBAL_INTERSTITIAL_ADS_LOCK) {
-            AppLovinAd preloadedAd = null;
-
-            final Queue<AppLovinAd> preloadedAds = GLOBAL_INTERSTITIAL_ADS.get(zoneId);
-            if (preloadedAds != null && !preloadedAds.isEmpty()) {
-                preloadedAd = preloadedAds.poll();
-            }
-            return preloadedAd;
-        }
-    }
-
-    private static void enqueueAd(final AppLovinAd ad, final String zoneId) {
-        synchronized (GLOBAL_INTERSTITIAL_ADS_LOCK) {
-            Queue<AppLovinAd> preloadedAds = GLOBAL_INTERSTITIAL_ADS.get(zoneId);
-            if (preloadedAds == null) {
-                preloadedAds = new LinkedList<>();
-                GLOBAL_INTERSTITIAL_ADS.put(zoneId, preloadedAds);
-            }
-            preloadedAds.offer(ad);
-        }
-    }
-
     /**
      * Retrieves the appropriate instance of AppLovin's SDK from the SDK key. This check prioritizes
      * the SDK Key in the AndroidManifest, and only uses the one passed in to the AdapterConfiguration
@@ -351,15 +328,4 @@ public class AppLovinInterstitial extends BaseAd implements AppLovinAdLoadListen
             return AppLovinSdk.getInstance(context);
         }
     }
-
-    /**
-     * Performs the given runnable on the main thread.
-     */
-    private static void runOnUiThread(final Runnable runnable) {
-        if (Looper.myLooper() == Looper.getMainLooper()) {
-            runnable.run();
-        } else {
-            UI_HANDLER.post(runnable);
-        }
-    }
 }
@@ -0,0 +1,216 @@
+package com.mopub.mobileads;
+
+import android.os.SystemClock;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdLoadListener;
+import com.applovin.sdk.AppLovinAdSize;
+import com.applovin.sdk.AppLovinSdk;
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Preloaded AppLovin interstitial ads shared by all instances of {@link AppLovinInterstitial}, so
+ * ads are not skipped when the adapter is re-created on every load. Each zone has its own bounded
+ * queue and lock. Ads older than {@link #AD_MAX_AGE_MILLIS} are discarded instead of being shown,
+ * and a zone is topped up in the background after each show so the next one can be served
+ * straight from the pool.
+ */
+final class AppLovinInterstitialAdPool {
+
+    private static final String ADAPTER_NAME = AppLovinInterstitialAdPool.class.getSimpleName();
+
+    private static final int MAX_ADS_PER_ZONE = 3;
+    private static final long AD_MAX_AGE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final ConcurrentHashMap<String, ZonePool> ZONE_POOLS = new ConcurrentHashMap<>();
+
+    private static final AtomicLong sHitCount = new AtomicLong();
+    private static final AtomicLong sMissCount = new AtomicLong();
+    private static final AtomicLong sStaleCount = new AtomicLong();
+
+    private static class PooledAd {
+        @NonNull
+        final AppLovinAd ad;
+        final long loadTime;
+
+        PooledAd(@NonNull final AppLovinAd ad, final long loadTime) {
+            this.ad = ad;
+            this.loadTime = loadTime;
+        }
+    }
+
+    private static class ZonePool {
+        // Guarded by itself.
+        @NonNull
+        final ArrayDeque<PooledAd> ads = new ArrayDeque<>(MAX_ADS_PER_ZONE);
+        // Guarded by ads.
+        boolean isToppingUp;
+    }
+
+    private AppLovinInterstitialAdPool() {
+    }
+
+    @NonNull
+    private static ZonePool getZonePool(@NonNull final String zoneId) {
+        ZonePool zonePool = ZONE_POOLS.get(zoneId);
+        if (zonePool == null) {
+            final ZonePool newZonePool = new ZonePool();
+            zonePool = ZONE_POOLS.putIfAbsent(zoneId, newZonePool);
+            if (zonePool == null) {
+                zonePool = newZonePool;
+            }
+        }
+        return zonePool;
+    }
+
+    /**
+     * Adds a freshly loaded ad to the zone. When the zone is full its oldest ad is dropped.
+     */
+    static void offer(@NonNull final String zoneId, @NonNull final AppLovinAd ad) {
+        Preconditions.checkNotNull(zoneId);
+        Preconditions.checkNotNull(ad);
+
+        final ZonePool zonePool = getZonePool(zoneId);
+        synchronized (zonePool.ads) {
+            if (zonePool.ads.size() >= MAX_ADS_PER_ZONE) {
+                zonePool.ads.pollFirst();
+            }
+            zonePool.ads.offerLast(new PooledAd(ad, SystemClock.elapsedRealtime()));
+        }
+    }
+
+    /**
+     * Checks whether a load can be served from the pool. Only these checks count towards the pool
+     * hit rate.
+     */
+    static boolean hasAd(@NonNull final String zoneId) {
+        Preconditions.checkNotNull(zoneId);
+
+        final ZonePool zonePool = ZONE_POOLS.get(zoneId);
+        if (zonePool != null) {
+            synchronized (zonePool.ads) {
+                discardStaleAds(zoneId, zonePool);
+
+                if (!zonePool.ads.isEmpty()) {
+                    sHitCount.incrementAndGet();
+                    return true;
+                }
+            }
+        }
+
+        sMissCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * @return the oldest ad of the zone that has not gone stale, or null if there is none.
+     */
+    @Nullable
+    static AppLovinAd poll(@NonNull final String zoneId) {
+        Preconditions.checkNotNull(zoneId);
+
+        final ZonePool zonePool = ZONE_POOLS.get(zoneId);
+        if (zonePool == null) {
+            return null;
+        }
+
+        synchronized (zonePool.ads) {
+            discardStaleAds(zoneId, zonePool);
+
+            final PooledAd pooledAd = zonePool.ads.pollFirst();
+            return pooledAd != null ? pooledAd.ad : null;
+        }
+    }
+
+    // Must hold zonePool.ads. Ads are queued in load order, so stale ones are always at the head.
+    private static void discardStaleAds(@NonNull final String zoneId, @NonNull final ZonePool zonePool) {
+        final long now = SystemClock.elapsedRealtime();
+
+        PooledAd pooledAd;
+        while ((pooledAd = zonePool.ads.peekFirst()) != null
+                && now - pooledAd.loadTime >= AD_MAX_AGE_MILLIS) {
+            zonePool.ads.pollFirst();
+            sStaleCount.incrementAndGet();
+
+            if (AppLovinLog.isLoggable(CUSTOM)) {
+                MoPubLog.log(zoneId, CUSTOM, ADAPTER_NAME, "Discarded a stale preloaded ad for zone: {" +
+                        zoneId + "}");
+            }
+        }
+    }
+
+    /**
+     * Loads one more ad for the zone in the background, unless the zone is already full or a
+     * top-up is in flight.
+     */
+    static void topUp(@NonNull final AppLovinSdk sdk, @NonNull final String zoneId) {
+        Preconditions.checkNotNull(sdk);
+        Preconditions.checkNotNull(zoneId);
+
+        final ZonePool zonePool = getZonePool(zoneId);
+        synchronized (zonePool.ads) {
+            if (zonePool.isToppingUp || zonePool.ads.size() >= MAX_ADS_PER_ZONE) {
+                return;
+            }
+            zonePool.isToppingUp = true;
+        }
+
+        final AppLovinAdLoadListener topUpListener = new AppLovinAdLoadListener() {
+            @Override
+            public void adReceived(final AppLovinAd ad) {
+                synchronized (zonePool.ads) {
+                    zonePool.isToppingUp = false;
+                }
+                offer(zoneId, ad);
+            }
+
+            @Override
+            public void failedToReceiveAd(final int errorCode) {
+                synchronized (zonePool.ads) {
+                    zonePool.isToppingUp = false;
+                }
+                MoPubLog.log(zoneId, CUSTOM, ADAPTER_NAME, "Failed to top up preloaded ads for " +
+                        "zone: {" + zoneId + "} with error code: " + errorCode);
+            }
+        };
+
+        if (!TextUtils.isEmpty(zoneId)) {
+            sdk.getAdService().loadNextAdForZoneId(zoneId, topUpListener);
+        } else {
+            sdk.getAdService().loadNextAd(AppLovinAdSize.INTERSTITIAL, topUpListener);
+        }
+    }
+
+    static long getHitCount() {
+        return sHitCount.get();
+    }
+
+    static long getMissCount() {
+        return sMissCount.get();
+    }
+
+    static long getStaleCount() {
+        return sStaleCount.get();
+    }
+
+    /**
+     * @return the share of {@link #hasAd(String)} checks that found an ad, between 0 and 1.
+     */
+    static double getHitRate() {
+        final long hits = sHitCount.get();
+        final long total = hits + sMissCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mopub.mobileads;
+
+import androidx.annotation.NonNull;
+
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.logging.MoPubLog.AdapterLogEvent;
+
+/**
+ * Guards the log calls on the hot paths of the AppLovin adapters, whose messages concatenate
+ * server extras, zone IDs and pool statistics. Building those messages inside an
+ * {@link #isLoggable(AdapterLogEvent)} check means a load allocates nothing for them when the
+ * event isn't logged at the current log level.
+ * <p>
+ * {@link MoPubLog} doesn't expose the levels of loggers added with
+ * {@link MoPubLog#addLogger}, so the guard only knows the global log level. While that level is
+ * above DEBUG, a logger added at DEBUG no longer receives these CUSTOM messages. Apps that need
+ * them, such as the Testing app, must lower the global log level as well.
+ */
+final class AppLovinLog {
+
+    private AppLovinLog() {
+    }
+
+    /**
+     * @return whether the event would be logged at the global log level.
+     */
+    static boolean isLoggable(@NonNull final AdapterLogEvent event) {
+        return event.getLogLevel().intValue() >= MoPubLog.getLogLevel().intValue();
+    }
+}
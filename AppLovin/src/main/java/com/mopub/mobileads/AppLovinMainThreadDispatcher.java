@@ -0,0 +1,66 @@
+package com.mopub.mobileads;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import com.mopub.common.Preconditions;
+
+import java.util.ArrayDeque;
+
+/**
+ * Moves AppLovin callbacks onto the main thread for all AppLovin adapters. Runnables submitted on
+ * the main thread run right away. Runnables submitted from other threads are queued in order, and a
+ * burst of them is drained by a single main-thread message instead of one message each.
+ */
+final class AppLovinMainThreadDispatcher {
+
+    private static final Handler UI_HANDLER = new Handler(Looper.getMainLooper());
+
+    // Guarded by itself.
+    private static final ArrayDeque<Runnable> PENDING = new ArrayDeque<>();
+    // Guarded by PENDING.
+    private static boolean sIsDrainPosted;
+
+    private static final Runnable DRAIN = new Runnable() {
+        @Override
+        public void run() {
+            while (true) {
+                final Runnable runnable;
+                synchronized (PENDING) {
+                    runnable = PENDING.pollFirst();
+                    if (runnable == null) {
+                        sIsDrainPosted = false;
+                        return;
+                    }
+                }
+                runnable.run();
+            }
+        }
+    };
+
+    private AppLovinMainThreadDispatcher() {
+    }
+
+    /**
+     * Performs the given runnable on the main thread.
+     */
+    static void runOnUiThread(@NonNull final Runnable runnable) {
+        Preconditions.checkNotNull(runnable);
+
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            runnable.run();
+            return;
+        }
+
+        synchronized (PENDING) {
+            PENDING.offerLast(runnable);
+
+            if (!sIsDrainPosted) {
+                sIsDrainPosted = true;
+                UI_HANDLER.post(DRAIN);
+            }
+        }
+    }
+}
@@ -15,12 +15,10 @@ import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdRewardListener;
 import com.applovin.sdk.AppLovinAdVideoPlaybackListener;
 import com.applovin.sdk.AppLovinMediationProvider;
-import com.applovin.sdk.AppLovinPrivacySettings;
 import com.applovin.sdk.AppLovinSdk;
 import com.applovin.sdk.AppLovinSdkSettings;
 import com.mopub.common.DataKeys;
 import com.mopub.common.LifecycleListener;
-import com.mopub.common.MoPub;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
@@ -80,9 +78,7 @@ public class AppLovinRewardedVideo extends BaseAd implements AppLovinAdLoadListe
         Preconditions.checkNotNull(activity);
         Preconditions.checkNotNull(adData);
 
-        // Pass the user consent from the MoPub SDK to AppLovin as per GDPR
-        boolean canCollectPersonalInfo = MoPub.canCollectPersonalInformation();
-        AppLovinPrivacySettings.setHasUserConsent(canCollectPersonalInfo, activity.getApplicationContext());
+        AppLovinConsentTracker.update(activity);
 
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Initializing AppLovin rewarded video...");
 
@@ -131,8 +127,10 @@ public class AppLovinRewardedVideo extends BaseAd implements AppLovinAdLoadListe
         final String adMarkup = extras.get(DataKeys.ADM_KEY);
         final boolean hasAdMarkup = !TextUtils.isEmpty(adMarkup);
 
-        MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Requesting AppLovin rewarded video with extras: "
-                + extras + " and has ad markup: " + hasAdMarkup);
+        if (AppLovinLog.isLoggable(CUSTOM)) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Requesting AppLovin rewarded video with extras: "
+                    + extras + " and has ad markup: " + hasAdMarkup);
+        }
 
         mAppLovinAdapterConfiguration.setCachedInitializationParameters(context, extras);
 
@@ -222,13 +220,15 @@ public class AppLovinRewardedVideo extends BaseAd implements AppLovinAdLoadListe
 
     @Override
     public void adReceived(final AppLovinAd ad) {
-        MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Rewarded video did load ad: " + ad.getAdIdNumber());
+        if (AppLovinLog.isLoggable(CUSTOM)) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Rewarded video did load ad: " + ad.getAdIdNumber());
+        }
 
         if (isTokenEvent) {
             tokenAd = ad;
         }
 
-        parentActivity.runOnUiThread(new Runnable() {
+        AppLovinMainThreadDispatcher.runOnUiThread(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -248,7 +248,7 @@ public class AppLovinRewardedVideo extends BaseAd implements AppLovinAdLoadListe
     @Override
     public void failedToReceiveAd(final int errorCode) {
 
-        parentActivity.runOnUiThread(new Runnable() {
+        AppLovinMainThreadDispatcher.runOnUiThread(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -322,7 +322,9 @@ public class AppLovinRewardedVideo extends BaseAd implements AppLovinAdLoadListe
 
     @Override
     public void videoPlaybackEnded(final AppLovinAd ad, final double percentViewed, final boolean fullyWatched) {
-        MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Rewarded video playback ended at playback percent: " + percentViewed);
+        if (AppLovinLog.isLoggable(CUSTOM)) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Rewarded video playback ended at playback percent: " + percentViewed);
+        }
 
         this.fullyWatched = fullyWatched;
     }
@@ -92,17 +92,6 @@ public class ChartboostInterstitial extends BaseAd {
         // We should set the delegation on each load request to prevent this.
         Chartboost.setDelegate(ChartboostShared.getDelegate());
 
-        // If there's already a listener for this location, we should fail.
-        if (ChartboostShared.getDelegate().hasLoadLocation(mLocation) &&
-                ChartboostShared.getDelegate().getLoadListener(mLocation) != mLoadListener) {
-            mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
-
-            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
-                    MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
-                    MoPubErrorCode.NETWORK_NO_FILL);
-            return;
-        }
-
         try {
             ChartboostShared.getDelegate().registerLoadListener(mLocation, mLoadListener);
         } catch (NullPointerException | IllegalStateException e) {
@@ -133,7 +122,7 @@ public class ChartboostInterstitial extends BaseAd {
 
     @Override
     protected void onInvalidate() {
-        ChartboostShared.getDelegate().unregisterLoadListener(mLocation);
-        ChartboostShared.getDelegate().unregisterInteractionListener(mLocation);
+        ChartboostShared.getDelegate().unregisterLoadListener(mLocation, mLoadListener);
+        ChartboostShared.getDelegate().unregisterInteractionListener(mLocation, mInteractionListener);
     }
 }
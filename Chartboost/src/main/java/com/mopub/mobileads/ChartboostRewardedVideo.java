@@ -105,19 +105,6 @@ public class ChartboostRewardedVideo extends BaseAd {
         // We should set the delegation on each load request to prevent this.
         Chartboost.setDelegate(ChartboostShared.getDelegate());
 
-        // If there's already a listener for this location, then another
-        // instance is still active and we should fail.
-        if (ChartboostShared.getDelegate().hasLoadLocation(mLocation) &&
-                ChartboostShared.getDelegate().getLoadListener(mLocation) != mLoadListener) {
-            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
-                    MoPubErrorCode.NETWORK_NO_FILL.getIntCode(),
-                    MoPubErrorCode.NETWORK_NO_FILL);
-            mLoadListener.onAdLoadFailed(MoPubErrorCode.NETWORK_NO_FILL);
-
-            return;
-        }
-
-        // If there's no listener present, register the new listener
         try {
             ChartboostShared.getDelegate().registerLoadListener(mLocation, mLoadListener);
         } catch (NullPointerException | IllegalStateException e) {
@@ -180,8 +167,8 @@ public class ChartboostRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
-        ChartboostShared.getDelegate().unregisterLoadListener(mLocation);
-        ChartboostShared.getDelegate().unregisterInteractionListener(mLocation);
+        ChartboostShared.getDelegate().unregisterLoadListener(mLocation, mLoadListener);
+        ChartboostShared.getDelegate().unregisterInteractionListener(mLocation, mInteractionListener);
     }
 
     @Override
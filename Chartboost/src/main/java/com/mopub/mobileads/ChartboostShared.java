@@ -19,10 +19,8 @@ import com.mopub.common.privacy.ConsentStatus;
 import com.mopub.common.privacy.PersonalInfoManager;
 
 import java.util.Collections;
-import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CLICKED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
@@ -62,16 +60,6 @@ public class ChartboostShared {
     public static class ChartboostSingletonDelegate extends ChartboostDelegate
             implements AdLifecycleListener.LoadListener, AdLifecycleListener.InteractionListener {
 
-        private static final AdLifecycleListener.LoadListener NULL_LOAD_LISTENER = new AdLifecycleListener.LoadListener() {
-            @Override
-            public void onAdLoaded() {
-            }
-
-            @Override
-            public void onAdLoadFailed(MoPubErrorCode errorCode) {
-            }
-        };
-
         private static final AdLifecycleListener.InteractionListener NULL_INTERACTION_LISTENER = new AdLifecycleListener.InteractionListener() {
             @Override
             public void onAdFailed(MoPubErrorCode errorCode) {
@@ -148,18 +136,40 @@ public class ChartboostShared {
         // Chartboost Location Management for interstitials and rewarded videos
         //***************
 
-        private static Map<String, AdLifecycleListener.LoadListener> mLoadListenersForLocation
-                = Collections.synchronizedMap(new TreeMap<String, AdLifecycleListener.LoadListener>());
+        // Several loads may wait on the same location; they are all notified by the next load
+        // callback for that location and then dropped.
+        private static ConcurrentHashMap<String, Set<AdLifecycleListener.LoadListener>> mLoadListenersForLocation
+                = new ConcurrentHashMap<>();
 
-        private static Map<String, AdLifecycleListener.InteractionListener> mInteractionListenersForLocation
-                = Collections.synchronizedMap(new TreeMap<String, AdLifecycleListener.InteractionListener>());
+        private static ConcurrentHashMap<String, AdLifecycleListener.InteractionListener> mInteractionListenersForLocation
+                = new ConcurrentHashMap<>();
 
-        private Set<String> mRewardedVideoLocationsToLoad = Collections.synchronizedSet(new TreeSet<String>());
+        private Set<String> mRewardedVideoLocationsToLoad =
+                Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
         public void registerLoadListener(@NonNull String location, @NonNull AdLifecycleListener.LoadListener loadListener) {
             Preconditions.checkNotNull(location);
             Preconditions.checkNotNull(loadListener);
-            mLoadListenersForLocation.put(location, loadListener);
+
+            while (true) {
+                Set<AdLifecycleListener.LoadListener> listeners = mLoadListenersForLocation.get(location);
+                if (listeners == null) {
+                    final Set<AdLifecycleListener.LoadListener> newListeners =
+                            Collections.newSetFromMap(new ConcurrentHashMap<AdLifecycleListener.LoadListener, Boolean>());
+                    listeners = mLoadListenersForLocation.putIfAbsent(location, newListeners);
+                    if (listeners == null) {
+                        listeners = newListeners;
+                    }
+                }
+
+                listeners.add(loadListener);
+
+                // The set may have been drained by a load callback in the meantime. If so, the
+                // listener was never notified and has to go into the set that replaced it.
+                if (mLoadListenersForLocation.get(location) == listeners) {
+                    return;
+                }
+            }
         }
 
         public void registerInteractionListener(@NonNull String location, @NonNull AdLifecycleListener.InteractionListener interactionListener) {
@@ -168,14 +178,23 @@ public class ChartboostShared {
             mInteractionListenersForLocation.put(location, interactionListener);
         }
 
-        public void unregisterLoadListener(@NonNull String location) {
+        public void unregisterLoadListener(@NonNull String location,
+                                           @Nullable AdLifecycleListener.LoadListener loadListener) {
             Preconditions.checkNotNull(location);
-            mLoadListenersForLocation.remove(location);
+
+            final Set<AdLifecycleListener.LoadListener> listeners = mLoadListenersForLocation.get(location);
+            if (listeners != null && loadListener != null) {
+                listeners.remove(loadListener);
+            }
         }
 
-        public void unregisterInteractionListener(@NonNull String location) {
+        public void unregisterInteractionListener(@NonNull String location,
+                                                  @Nullable AdLifecycleListener.InteractionListener interactionListener) {
             Preconditions.checkNotNull(location);
-            mInteractionListenersForLocation.remove(location);
+
+            if (interactionListener != null) {
+                mInteractionListenersForLocation.remove(location, interactionListener);
+            }
         }
 
         public void registerRewardedVideoLocation(@NonNull String location) {
@@ -188,19 +207,39 @@ public class ChartboostShared {
             mRewardedVideoLocationsToLoad.remove(location);
         }
 
-        private void invalidateLocation(String location) {
+        /**
+         * Drops the interaction listener of the location, but only if it is still the one the
+         * callback was dispatched to. A listener registered by a newer show is left alone.
+         */
+        private void invalidateLocation(@Nullable String location,
+                                        @NonNull AdLifecycleListener.InteractionListener dispatchedListener) {
             if (!TextUtils.isEmpty(location)) {
                 MoPubLog.log(CUSTOM, ADAPTER_NAME, "Invalidating listeners for location: " + location);
-                
-                unregisterLoadListener(location);
-                unregisterInteractionListener(location);
+
+                mInteractionListenersForLocation.remove(location, dispatchedListener);
             }
         }
 
-        @NonNull
-        public AdLifecycleListener.LoadListener getLoadListener(@NonNull String location) {
-            final AdLifecycleListener.LoadListener listener = mLoadListenersForLocation.get(location);
-            return listener != null ? listener : NULL_LOAD_LISTENER;
+        private void notifyAdLoaded(@Nullable String location) {
+            final Set<AdLifecycleListener.LoadListener> listeners = location != null ?
+                    mLoadListenersForLocation.remove(location) : null;
+
+            if (listeners != null) {
+                for (final AdLifecycleListener.LoadListener listener : listeners) {
+                    listener.onAdLoaded();
+                }
+            }
+        }
+
+        private void notifyAdLoadFailed(@Nullable String location, @Nullable MoPubErrorCode errorCode) {
+            final Set<AdLifecycleListener.LoadListener> listeners = location != null ?
+                    mLoadListenersForLocation.remove(location) : null;
+
+            if (listeners != null) {
+                for (final AdLifecycleListener.LoadListener listener : listeners) {
+                    listener.onAdLoadFailed(errorCode);
+                }
+            }
         }
 
         @NonNull
@@ -210,7 +249,8 @@ public class ChartboostShared {
         }
 
         public boolean hasLoadLocation(@NonNull String location) {
-            return mLoadListenersForLocation.containsKey(location);
+            final Set<AdLifecycleListener.LoadListener> listeners = mLoadListenersForLocation.get(location);
+            return listeners != null && !listeners.isEmpty();
         }
 
         public boolean hasInteractionlLocation(@NonNull String location) {
@@ -226,7 +266,7 @@ public class ChartboostShared {
         //******************
         @Override
         public void didCacheInterstitial(String location) {
-            getLoadListener(location).onAdLoaded();
+            notifyAdLoaded(location);
             MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
         }
 
@@ -267,15 +307,15 @@ public class ChartboostShared {
                 MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, errorCode.getIntCode(), errorCode);
             }
 
-            getLoadListener(location).onAdLoadFailed(errorCode);
-            invalidateLocation(location);
+            notifyAdLoadFailed(location, errorCode);
         }
 
         @Override
         public void didDismissInterstitial(String location) {
             // Note that this method is fired before didCloseInterstitial and didClickInterstitial.
-            getInteractionListener(location).onAdDismissed();
-            invalidateLocation(location);
+            final AdLifecycleListener.InteractionListener interactionListener = getInteractionListener(location);
+            interactionListener.onAdDismissed();
+            invalidateLocation(location, interactionListener);
         }
 
         @Override
@@ -304,14 +344,12 @@ public class ChartboostShared {
         @Override
         public void didCacheRewardedVideo(String location) {
             super.didCacheRewardedVideo(location);
-            if (mRewardedVideoLocationsToLoad.contains(location)) {
-                mRewardedVideoLocationsToLoad.remove(location);
-
+            if (location != null && mRewardedVideoLocationsToLoad.remove(location)) {
                 MoPubLog.log(LOAD_SUCCESS, ADAPTER_NAME);
                 MoPubLog.log(CUSTOM, ADAPTER_NAME, "Chartboost rewarded video cached for location " +
                         location + ".");
 
-                getLoadListener(location).onAdLoaded();
+                notifyAdLoaded(location);
             }
         }
 
@@ -319,7 +357,7 @@ public class ChartboostShared {
         public void didFailToLoadRewardedVideo(String location, CBError.CBImpressionError error) {
             super.didFailToLoadRewardedVideo(location, error);
             String suffix = error != null ? " with error: " + error.name() : "";
-            if (mRewardedVideoLocationsToLoad.contains(location)) {
+            if (location != null && mRewardedVideoLocationsToLoad.remove(location)) {
 
                 MoPubErrorCode errorCode = null;
 
@@ -354,9 +392,8 @@ public class ChartboostShared {
                     MoPubLog.log(CUSTOM, ADAPTER_NAME, "Chartboost rewarded video cache " +
                             "failed for location " + location + suffix);
                 }
-                mRewardedVideoLocationsToLoad.remove(location);
 
-                getLoadListener(location).onAdLoadFailed(errorCode);
+                notifyAdLoadFailed(location, errorCode);
             }
         }
 
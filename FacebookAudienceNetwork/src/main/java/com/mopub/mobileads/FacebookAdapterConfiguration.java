@@ -1,6 +1,10 @@
 package com.mopub.mobileads;
 
 import android.content.Context;
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
@@ -19,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -32,10 +37,15 @@ public class FacebookAdapterConfiguration extends BaseAdapterConfiguration {
     private static final String MOPUB_NETWORK_NAME = BuildConfig.NETWORK_NAME;
     private static final String SDK_VERSION = com.facebook.ads.BuildConfig.VERSION_NAME;
 
+    private static final long TOKEN_REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final long TOKEN_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
     private static Boolean isNativeBanner;
 
     private final AtomicReference<String> tokenReference = new AtomicReference<>(null);
     private final AtomicBoolean isComputingToken = new AtomicBoolean(false);
+    private volatile long tokenTimestamp;
+    private final Handler tokenRefreshHandler = new Handler(Looper.getMainLooper());
 
     @NonNull
     @Override
@@ -48,8 +58,10 @@ public class FacebookAdapterConfiguration extends BaseAdapterConfiguration {
     public String getBiddingToken(@NonNull final Context context) {
         Preconditions.checkNotNull(context);
 
+        // The last good token is handed out while a newer one is being fetched, until it expires.
         refreshBidderToken(context);
-        return tokenReference.get();
+        return SystemClock.elapsedRealtime() - tokenTimestamp < TOKEN_TTL_MILLIS
+                ? tokenReference.get() : null;
     }
 
     @NonNull
@@ -74,7 +86,8 @@ public class FacebookAdapterConfiguration extends BaseAdapterConfiguration {
 
         synchronized (FacebookAdapterConfiguration.class) {
             try {
-                tokenReference.set(BidderTokenProvider.getBidderToken(context));
+                setBidderToken(BidderTokenProvider.getBidderToken(context));
+                scheduleBidderTokenRefresh(context.getApplicationContext());
                 List<String> placementIds = new ArrayList<>();
 
                 if (configuration != null && !configuration.isEmpty()) {
@@ -115,18 +128,44 @@ public class FacebookAdapterConfiguration extends BaseAdapterConfiguration {
         isNativeBanner = pref;
     }
 
-    private void refreshBidderToken(final Context context) {
+    private void refreshBidderToken(@NonNull final Context context) {
+        if (tokenReference.get() != null &&
+                SystemClock.elapsedRealtime() - tokenTimestamp < TOKEN_REFRESH_INTERVAL_MILLIS) {
+            return;
+        }
+
         if (isComputingToken.compareAndSet(false, true)) {
-            new Thread(new Runnable() {
+            final Context applicationContext = context.getApplicationContext();
+
+            AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
                 @Override
                 public void run() {
-                    final String token = BidderTokenProvider.getBidderToken(context);
-                    if (token != null) {
-                        tokenReference.set(token);
+                    try {
+                        setBidderToken(BidderTokenProvider.getBidderToken(applicationContext));
+                    } finally {
+                        isComputingToken.set(false);
                     }
-                    isComputingToken.set(false);
+                    scheduleBidderTokenRefresh(applicationContext);
                 }
-            }).start();
+            });
+        }
+    }
+
+    private void scheduleBidderTokenRefresh(@NonNull final Context context) {
+        // Refresh before the token expires, even if no auction has asked for it since.
+        tokenRefreshHandler.removeCallbacksAndMessages(null);
+        tokenRefreshHandler.postDelayed(new Runnable() {
+            @Override
+            public void run() {
+                refreshBidderToken(context);
+            }
+        }, TOKEN_TTL_MILLIS - TOKEN_REFRESH_INTERVAL_MILLIS);
+    }
+
+    private void setBidderToken(@Nullable final String token) {
+        if (token != null) {
+            tokenReference.set(token);
+            tokenTimestamp = SystemClock.elapsedRealtime();
         }
     }
 }
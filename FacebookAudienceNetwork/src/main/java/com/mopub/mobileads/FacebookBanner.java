@@ -35,6 +35,7 @@ import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_ATTEMPTED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_FAILED;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_SUCCESS;
+import static com.mopub.mobileads.MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR;
 import static com.mopub.mobileads.MoPubErrorCode.CANCELLED;
 import static com.mopub.mobileads.MoPubErrorCode.NETWORK_INVALID_STATE;
 import static com.mopub.mobileads.MoPubErrorCode.NETWORK_NO_FILL;
@@ -47,6 +48,13 @@ public class FacebookBanner extends BaseAd implements AdListener {
     private static final String PLACEMENT_ID_KEY = "placement_id";
     private static final String ADAPTER_NAME = FacebookBanner.class.getSimpleName();
 
+    // The sizes Facebook serves, tallest first.
+    private static final AdSize[] SUPPORTED_SIZES = {
+            AdSize.RECTANGLE_HEIGHT_250,
+            AdSize.BANNER_HEIGHT_90,
+            AdSize.BANNER_HEIGHT_50
+    };
+
     private AdView mFacebookBanner;
     @NonNull
     private FacebookAdapterConfiguration mFacebookAdapterConfiguration;
@@ -81,6 +89,16 @@ public class FacebookBanner extends BaseAd implements AdListener {
         }
 
         final AdSize adSize = calculateAdSize(adData.getAdHeight() == null ? 0 : adData.getAdHeight());
+        if (adSize == null) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Requested ad size doesn't fit " +
+                    "any banner size supported by Facebook. Failing ad request.");
+            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME,
+                    ADAPTER_CONFIGURATION_ERROR.getIntCode(), ADAPTER_CONFIGURATION_ERROR);
+            if (mLoadListener != null) {
+                mLoadListener.onAdLoadFailed(ADAPTER_CONFIGURATION_ERROR);
+            }
+            return;
+        }
 
         mFacebookBanner = new AdView(context, mPlacementId, adSize);
 
@@ -200,14 +218,20 @@ public class FacebookBanner extends BaseAd implements AdListener {
 
     @Nullable
     private AdSize calculateAdSize(int height) {
-        if (height >= AdSize.RECTANGLE_HEIGHT_250.getHeight()) {
-            return AdSize.RECTANGLE_HEIGHT_250;
-        } else if (height >= AdSize.BANNER_HEIGHT_90.getHeight()) {
-            return AdSize.BANNER_HEIGHT_90;
-        } else {
+        if (height <= 0) {
             // Default to standard banner size
             return AdSize.BANNER_HEIGHT_50;
         }
+
+        // Facebook banners take the full width, so only the height has to fit.
+        for (final AdSize adSize : SUPPORTED_SIZES) {
+            if (height >= adSize.getHeight()) {
+                return adSize;
+            }
+        }
+
+        // A banner taller than its container would be cut off, so don't request one.
+        return null;
     }
 
     @NonNull
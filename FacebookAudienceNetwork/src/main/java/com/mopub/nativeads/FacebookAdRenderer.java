@@ -5,6 +5,7 @@ import android.os.Build;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.FrameLayout;
 import android.widget.RelativeLayout;
 import android.widget.TextView;
 
@@ -29,6 +30,9 @@ public class FacebookAdRenderer implements MoPubAdRenderer<FacebookNative.Facebo
     @NonNull
     final WeakHashMap<View, FacebookNativeViewHolder> mViewHolderMap;
 
+    // Views inflated ahead of time by preInflateAdViews.
+    private final FacebookAdViewPool mAdViewPool;
+
     /**
      * Constructs a native ad renderer with a view binder.
      *
@@ -37,11 +41,54 @@ public class FacebookAdRenderer implements MoPubAdRenderer<FacebookNative.Facebo
     public FacebookAdRenderer(final FacebookViewBinder viewBinder) {
         mViewBinder = viewBinder;
         mViewHolderMap = new WeakHashMap<View, FacebookNativeViewHolder>();
+        mAdViewPool = new FacebookAdViewPool(new FacebookAdViewPool.ViewFactory() {
+            @NonNull
+            @Override
+            public View createView(@NonNull final Context context) {
+                // A stand-in parent so the layout's root still gets its layout params.
+                final View view = inflateAdView(context, new FrameLayout(context));
+                mViewHolderMap.put(view, FacebookNativeViewHolder.fromViewBinder(view, mViewBinder));
+                return view;
+            }
+
+            @Override
+            public void onViewDiscarded(@NonNull final View view) {
+                mViewHolderMap.remove(view);
+            }
+        });
     }
 
     @Override
     public View createAdView(@NonNull Context context, final ViewGroup parent) {
         Preconditions.checkNotNull(context);
+
+        final View preInflatedView = mAdViewPool.poll(context);
+        if (preInflatedView != null) {
+            return preInflatedView;
+        }
+        return inflateAdView(context, parent);
+    }
+
+    /**
+     * Inflates up to {@code count} ad views ahead of time, while the main thread is idle, so that
+     * later calls to {@link #createAdView(Context, ViewGroup)} with the same context can hand out a
+     * ready view whose view holder has already been built. Must be called on the main thread.
+     */
+    public void preInflateAdViews(@NonNull final Context context, final int count) {
+        Preconditions.checkNotNull(context);
+
+        mAdViewPool.fill(context, count);
+    }
+
+    /**
+     * Drops the ad views inflated ahead of time that haven't been handed out yet.
+     */
+    public void clearPreInflatedAdViews() {
+        mAdViewPool.clear();
+    }
+
+    @NonNull
+    private View inflateAdView(@NonNull final Context context, @Nullable final ViewGroup parent) {
         return LayoutInflater
                 .from(context)
                 .inflate(mViewBinder.layoutId, parent, false);
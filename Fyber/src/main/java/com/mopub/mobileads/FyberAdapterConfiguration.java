@@ -65,9 +65,12 @@ public class FyberAdapterConfiguration extends BaseAdapterConfiguration {
 
     @Override
     public void initializeNetwork(@NonNull Context context, @Nullable Map<String, String> configuration, @NonNull
-    final OnNetworkInitializationFinishedListener listener) {
+    final OnNetworkInitializationFinishedListener initializationFinishedListener) {
         Preconditions.checkNotNull(context);
-        Preconditions.checkNotNull(listener);
+        Preconditions.checkNotNull(initializationFinishedListener);
+
+        final OnNetworkInitializationFinishedListener listener =
+                new FyberInitializationTimer(initializationFinishedListener);
 
         if (configuration == null || configuration.isEmpty()) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "Fyber initialization failed. Configuration is null." +
@@ -238,4 +241,4 @@ public class FyberAdapterConfiguration extends BaseAdapterConfiguration {
         }
         return version;
     }
-}
\ No newline at end of file
+}
@@ -93,14 +93,17 @@ public class IronSourceAdapterConfiguration extends BaseAdapterConfiguration {
 
     @Override
     public void initializeNetwork(@NonNull Context context, @Nullable Map<String, String>
-            configuration, @NonNull OnNetworkInitializationFinishedListener listener) {
+            configuration, @NonNull OnNetworkInitializationFinishedListener initializationFinishedListener) {
 
         Preconditions.checkNotNull(context);
-        Preconditions.checkNotNull(listener);
+        Preconditions.checkNotNull(initializationFinishedListener);
+
+        final OnNetworkInitializationFinishedListener listener =
+                new IronSourceInitializationTimer(initializationFinishedListener);
 
         boolean networkInitializationSucceeded = false;
 
-        IronSource.setConsent(MoPub.canCollectPersonalInformation());
+        IronSourceConsentTracker.update();
 
         synchronized (IronSourceAdapterConfiguration.class) {
             try {
@@ -27,7 +27,6 @@ import com.ironsource.mediationsdk.IronSourceBannerLayout;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.BannerListener;
 import com.mopub.common.LifecycleListener;
-import com.mopub.common.MoPub;
 import com.mopub.common.MoPubLifecycleManager;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
@@ -72,7 +71,7 @@ public class IronSourceBanner extends BaseAd implements BannerListener {
         }
 
         try {
-            IronSource.setConsent(MoPub.canCollectPersonalInformation());
+            IronSourceConsentTracker.update();
             initIronSourceSDK(context, applicationKey, extras);
 
             return true;
@@ -0,0 +1,75 @@
+package com.mopub.mobileads;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.ironsource.mediationsdk.IronSource;
+import com.mopub.common.MoPub;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.privacy.ConsentStatus;
+import com.mopub.common.privacy.ConsentStatusChangeListener;
+import com.mopub.common.privacy.PersonalInfoManager;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/** Passes the user consent from the MoPub SDK to ironSource, only when it changes. */
+final class IronSourceConsentTracker {
+    private static final String ADAPTER_NAME = IronSourceConsentTracker.class.getSimpleName();
+
+    private static volatile boolean sIsListening;
+
+    // Guarded by IronSourceConsentTracker.class.
+    @Nullable
+    private static Boolean sConsent;
+
+    private static final ConsentStatusChangeListener sConsentStatusChangeListener =
+            new ConsentStatusChangeListener() {
+                @Override
+                public void onConsentStateChange(@NonNull ConsentStatus oldConsentStatus,
+                                                 @NonNull ConsentStatus newConsentStatus,
+                                                 boolean canCollectPersonalInformation) {
+                    synchronized (IronSourceConsentTracker.class) {
+                        pushIfChanged(canCollectPersonalInformation);
+                    }
+                }
+            };
+
+    private IronSourceConsentTracker() {
+    }
+
+    /**
+     * Makes sure ironSource has the current user consent.
+     */
+    static void update() {
+        if (sIsListening) {
+            return;
+        }
+
+        synchronized (IronSourceConsentTracker.class) {
+            if (sIsListening) {
+                return;
+            }
+
+            // Until the MoPub SDK is initialized there is nothing to listen to, so the consent is
+            // checked on every load instead.
+            final PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
+            if (personalInfoManager != null) {
+                personalInfoManager.subscribeConsentStatusChangeListener(sConsentStatusChangeListener);
+                sIsListening = true;
+            }
+
+            pushIfChanged(MoPub.canCollectPersonalInformation());
+        }
+    }
+
+    // Must hold IronSourceConsentTracker.class.
+    private static void pushIfChanged(final boolean consent) {
+        if (sConsent != null && sConsent == consent) {
+            return;
+        }
+
+        IronSource.setConsent(consent);
+        sConsent = consent;
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Passed user consent to ironSource: " + consent);
+    }
+}
@@ -0,0 +1,57 @@
+package com.mopub.mobileads;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import com.mopub.common.AdapterConfiguration;
+import com.mopub.common.OnNetworkInitializationFinishedListener;
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Logs how long ironSource takes to initialize, and warns as soon as it runs over its budget.
+ */
+final class IronSourceInitializationTimer implements OnNetworkInitializationFinishedListener {
+    private static final String ADAPTER_NAME = IronSourceInitializationTimer.class.getSimpleName();
+    private static final long BUDGET_MILLIS = 1000;
+
+    @NonNull
+    private final OnNetworkInitializationFinishedListener mListener;
+    @NonNull
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final long mStartTime = SystemClock.elapsedRealtime();
+
+    private final Runnable mBudgetExpired = new Runnable() {
+        @Override
+        public void run() {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "ironSource initialization has not finished within its " +
+                    BUDGET_MILLIS + " ms budget");
+        }
+    };
+
+    IronSourceInitializationTimer(@NonNull final OnNetworkInitializationFinishedListener listener) {
+        Preconditions.checkNotNull(listener);
+
+        mListener = listener;
+        mHandler.postDelayed(mBudgetExpired, BUDGET_MILLIS);
+    }
+
+    @Override
+    public void onNetworkInitializationFinished(@NonNull final Class<? extends AdapterConfiguration> clazz,
+                                                @NonNull final MoPubErrorCode moPubErrorCode) {
+        mHandler.removeCallbacks(mBudgetExpired);
+
+        // A synchronous initialization holds the main thread past the budget warning, so the
+        // budget is checked again here.
+        final long elapsedMillis = SystemClock.elapsedRealtime() - mStartTime;
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "ironSource initialization finished with " + moPubErrorCode +
+                " in " + elapsedMillis + " ms" +
+                (elapsedMillis > BUDGET_MILLIS ? ", over its " + BUDGET_MILLIS + " ms budget" : ""));
+        mListener.onNetworkInitializationFinished(clazz, moPubErrorCode);
+    }
+}
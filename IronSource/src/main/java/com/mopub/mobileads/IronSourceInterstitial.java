@@ -12,7 +12,6 @@ import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.ISDemandOnlyInterstitialListener;
 import com.mopub.common.DataKeys;
 import com.mopub.common.LifecycleListener;
-import com.mopub.common.MoPub;
 import com.mopub.common.MoPubLifecycleManager;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
@@ -53,8 +52,7 @@ public class IronSourceInterstitial extends BaseAd implements ISDemandOnlyInters
         Preconditions.checkNotNull(launcherActivity);
         Preconditions.checkNotNull(adData);
 
-        boolean canCollectPersonalInfo = MoPub.canCollectPersonalInformation();
-        IronSource.setConsent(canCollectPersonalInfo);
+        IronSourceConsentTracker.update();
 
         final Map<String, String> extras = adData.getExtras();
         try {
@@ -101,8 +99,6 @@ public class IronSourceInterstitial extends BaseAd implements ISDemandOnlyInters
 
     private void initIronSourceSDK(Context context, String appKey, Map<String, String> extras) {
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "ironSource Interstitial initialization is called with applicationKey: " + appKey);
-        IronSource.setISDemandOnlyInterstitialListener(this);
-
         IronSource.AD_UNIT[] adUnitsToInit = mIronSourceAdapterConfiguration.getIronSourceAdUnitsToInitList(context, extras);
         IronSourceAdapterConfiguration.initIronSourceSDK(context, appKey, adUnitsToInit);
     }
@@ -153,6 +149,8 @@ public class IronSourceInterstitial extends BaseAd implements ISDemandOnlyInters
 
         final String adMarkup = extras.get(DataKeys.ADM_KEY);
 
+        IronSourceRouter.getInstance().addInterstitialListener(mInstanceId, this);
+
         if (!TextUtils.isEmpty(adMarkup)) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "ADM field is populated. Will make Advanced Bidding request.");
             IronSource.loadISDemandOnlyInterstitialWithAdm((Activity) context, mInstanceId, adMarkup);
@@ -173,6 +171,7 @@ public class IronSourceInterstitial extends BaseAd implements ISDemandOnlyInters
 
     @Override
     protected void onInvalidate() {
+        IronSourceRouter.getInstance().removeInterstitialListener(mInstanceId, this);
     }
 
     @Nullable
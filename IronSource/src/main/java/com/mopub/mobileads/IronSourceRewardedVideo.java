@@ -13,7 +13,6 @@ import com.ironsource.mediationsdk.sdk.ISDemandOnlyRewardedVideoListener;
 import com.mopub.common.BaseLifecycleListener;
 import com.mopub.common.DataKeys;
 import com.mopub.common.LifecycleListener;
-import com.mopub.common.MoPub;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
@@ -86,6 +85,7 @@ public class IronSourceRewardedVideo extends BaseAd implements ISDemandOnlyRewar
 
     @Override
     protected void onInvalidate() {
+        IronSourceRouter.getInstance().removeRewardedVideoListener(mInstanceId, this);
     }
 
     @Override
@@ -94,8 +94,7 @@ public class IronSourceRewardedVideo extends BaseAd implements ISDemandOnlyRewar
         Preconditions.checkNotNull(launcherActivity);
         Preconditions.checkNotNull(adData);
 
-        boolean canCollectPersonalInfo = MoPub.canCollectPersonalInformation();
-        IronSource.setConsent(canCollectPersonalInfo);
+        IronSourceConsentTracker.update();
 
         final Map<String, String> extras = adData.getExtras();
         try {
@@ -142,8 +141,6 @@ public class IronSourceRewardedVideo extends BaseAd implements ISDemandOnlyRewar
 
     private void initIronSourceSDK(Context context, String applicationKey, Map<String, String> extras) {
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "ironSource Rewarded Video initialization is called with applicationKey: " + applicationKey);
-        IronSource.setISDemandOnlyRewardedVideoListener(this);
-
         IronSource.AD_UNIT[] adUnitsToInit = mIronSourceAdapterConfiguration.getIronSourceAdUnitsToInitList(context, extras);
         IronSourceAdapterConfiguration.initIronSourceSDK(context, applicationKey, adUnitsToInit);
     }
@@ -182,6 +179,8 @@ public class IronSourceRewardedVideo extends BaseAd implements ISDemandOnlyRewar
 
         final String adMarkup = extras.get(DataKeys.ADM_KEY);
 
+        IronSourceRouter.getInstance().addRewardedVideoListener(mInstanceId, this);
+
         if(!TextUtils.isEmpty(adMarkup)) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "ADM field is populated. Will make Advanced Bidding request.");
             IronSource.loadISDemandOnlyRewardedVideoWithAdm((Activity) context, mInstanceId, adMarkup);
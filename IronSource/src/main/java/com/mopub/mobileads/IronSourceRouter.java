@@ -0,0 +1,292 @@
+package com.mopub.mobileads;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.ironsource.mediationsdk.IronSource;
+import com.ironsource.mediationsdk.logger.IronSourceError;
+import com.ironsource.mediationsdk.sdk.ISDemandOnlyInterstitialListener;
+import com.ironsource.mediationsdk.sdk.ISDemandOnlyRewardedVideoListener;
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * ironSource only accepts a single demand-only listener per ad format for the whole process. This
+ * router owns those listeners and dispatches every callback to the adapter that registered for
+ * the callback's instance ID, so several instances can be loading at the same time.
+ */
+public class IronSourceRouter {
+
+    private static final String ADAPTER_NAME = IronSourceRouter.class.getSimpleName();
+    private static final long NO_LATENCY = -1;
+
+    private static final IronSourceRouter sInstance = new IronSourceRouter();
+
+    private final Map<String, ISDemandOnlyInterstitialListener> mInterstitialListeners =
+            new ConcurrentHashMap<>();
+    private final Map<String, ISDemandOnlyRewardedVideoListener> mRewardedVideoListeners =
+            new ConcurrentHashMap<>();
+
+    // Load timestamps and resulting latencies, keyed by instance ID. Interstitial and rewarded
+    // instance IDs may collide, so each format keeps its own maps.
+    private final Map<String, Long> mInterstitialLoadStartTimes = new ConcurrentHashMap<>();
+    private final Map<String, Long> mInterstitialLoadLatencies = new ConcurrentHashMap<>();
+    private final Map<String, Long> mRewardedVideoLoadStartTimes = new ConcurrentHashMap<>();
+    private final Map<String, Long> mRewardedVideoLoadLatencies = new ConcurrentHashMap<>();
+
+    private IronSourceRouter() {
+        IronSource.setISDemandOnlyInterstitialListener(mInterstitialDispatcher);
+        IronSource.setISDemandOnlyRewardedVideoListener(mRewardedVideoDispatcher);
+    }
+
+    public static IronSourceRouter getInstance() {
+        return sInstance;
+    }
+
+    /**
+     * Registers the listener for the given instance ID and marks the start of its load. Any
+     * listener previously registered for the same instance ID is replaced.
+     */
+    void addInterstitialListener(@NonNull final String instanceId,
+                                 @NonNull final ISDemandOnlyInterstitialListener listener) {
+        Preconditions.checkNotNull(instanceId);
+        Preconditions.checkNotNull(listener);
+
+        mInterstitialListeners.put(instanceId, listener);
+        mInterstitialLoadStartTimes.put(instanceId, SystemClock.elapsedRealtime());
+    }
+
+    /**
+     * Unregisters the listener only if it is still the one registered for the instance ID.
+     */
+    void removeInterstitialListener(@NonNull final String instanceId,
+                                    @NonNull final ISDemandOnlyInterstitialListener listener) {
+        Preconditions.checkNotNull(instanceId);
+        Preconditions.checkNotNull(listener);
+
+        if (mInterstitialListeners.remove(instanceId, listener)) {
+            mInterstitialLoadStartTimes.remove(instanceId);
+        }
+    }
+
+    void addRewardedVideoListener(@NonNull final String instanceId,
+                                  @NonNull final ISDemandOnlyRewardedVideoListener listener) {
+        Preconditions.checkNotNull(instanceId);
+        Preconditions.checkNotNull(listener);
+
+        mRewardedVideoListeners.put(instanceId, listener);
+        mRewardedVideoLoadStartTimes.put(instanceId, SystemClock.elapsedRealtime());
+    }
+
+    void removeRewardedVideoListener(@NonNull final String instanceId,
+                                     @NonNull final ISDemandOnlyRewardedVideoListener listener) {
+        Preconditions.checkNotNull(instanceId);
+        Preconditions.checkNotNull(listener);
+
+        if (mRewardedVideoListeners.remove(instanceId, listener)) {
+            mRewardedVideoLoadStartTimes.remove(instanceId);
+        }
+    }
+
+    /**
+     * @return the duration of the last completed interstitial load for the instance ID in
+     * milliseconds, or -1 if no load has completed yet.
+     */
+    public long getInterstitialLoadLatencyMillis(@NonNull final String instanceId) {
+        final Long latency = mInterstitialLoadLatencies.get(instanceId);
+        return latency != null ? latency : NO_LATENCY;
+    }
+
+    /**
+     * @return the duration of the last completed rewarded video load for the instance ID in
+     * milliseconds, or -1 if no load has completed yet.
+     */
+    public long getRewardedVideoLoadLatencyMillis(@NonNull final String instanceId) {
+        final Long latency = mRewardedVideoLoadLatencies.get(instanceId);
+        return latency != null ? latency : NO_LATENCY;
+    }
+
+    private static void recordLoadLatency(@NonNull final String instanceId,
+                                          @NonNull final Map<String, Long> startTimes,
+                                          @NonNull final Map<String, Long> latencies) {
+        final Long startTime = startTimes.remove(instanceId);
+
+        if (startTime != null) {
+            final long latency = SystemClock.elapsedRealtime() - startTime;
+            latencies.put(instanceId, latency);
+
+            MoPubLog.log(instanceId, CUSTOM, ADAPTER_NAME, "Load for instance " + instanceId +
+                    " completed in " + latency + " ms");
+        }
+    }
+
+    @Nullable
+    private ISDemandOnlyInterstitialListener getInterstitialListener(@Nullable final String instanceId,
+                                                                     @NonNull final String callback) {
+        final ISDemandOnlyInterstitialListener listener = instanceId != null ?
+                mInterstitialListeners.get(instanceId) : null;
+
+        if (listener == null) {
+            MoPubLog.log(instanceId, CUSTOM, ADAPTER_NAME, callback + " - interstitial " +
+                    "listener is not found for instance ID: " + instanceId);
+        }
+        return listener;
+    }
+
+    @Nullable
+    private ISDemandOnlyRewardedVideoListener getRewardedVideoListener(@Nullable final String instanceId,
+                                                                       @NonNull final String callback) {
+        final ISDemandOnlyRewardedVideoListener listener = instanceId != null ?
+                mRewardedVideoListeners.get(instanceId) : null;
+
+        if (listener == null) {
+            MoPubLog.log(instanceId, CUSTOM, ADAPTER_NAME, callback + " - rewarded video " +
+                    "listener is not found for instance ID: " + instanceId);
+        }
+        return listener;
+    }
+
+    private final ISDemandOnlyInterstitialListener mInterstitialDispatcher = new ISDemandOnlyInterstitialListener() {
+        @Override
+        public void onInterstitialAdReady(final String instanceId) {
+            if (instanceId != null) {
+                recordLoadLatency(instanceId, mInterstitialLoadStartTimes, mInterstitialLoadLatencies);
+            }
+
+            final ISDemandOnlyInterstitialListener listener = getInterstitialListener(instanceId,
+                    "onInterstitialAdReady");
+            if (listener != null) {
+                listener.onInterstitialAdReady(instanceId);
+            }
+        }
+
+        @Override
+        public void onInterstitialAdLoadFailed(final String instanceId, final IronSourceError ironSourceError) {
+            if (instanceId != null) {
+                recordLoadLatency(instanceId, mInterstitialLoadStartTimes, mInterstitialLoadLatencies);
+            }
+
+            final ISDemandOnlyInterstitialListener listener = getInterstitialListener(instanceId,
+                    "onInterstitialAdLoadFailed");
+            if (listener != null) {
+                listener.onInterstitialAdLoadFailed(instanceId, ironSourceError);
+            }
+        }
+
+        @Override
+        public void onInterstitialAdOpened(final String instanceId) {
+            final ISDemandOnlyInterstitialListener listener = getInterstitialListener(instanceId,
+                    "onInterstitialAdOpened");
+            if (listener != null) {
+                listener.onInterstitialAdOpened(instanceId);
+            }
+        }
+
+        @Override
+        public void onInterstitialAdClosed(final String instanceId) {
+            final ISDemandOnlyInterstitialListener listener = getInterstitialListener(instanceId,
+                    "onInterstitialAdClosed");
+            if (listener != null) {
+                listener.onInterstitialAdClosed(instanceId);
+            }
+        }
+
+        @Override
+        public void onInterstitialAdShowFailed(final String instanceId, final IronSourceError ironSourceError) {
+            final ISDemandOnlyInterstitialListener listener = getInterstitialListener(instanceId,
+                    "onInterstitialAdShowFailed");
+            if (listener != null) {
+                listener.onInterstitialAdShowFailed(instanceId, ironSourceError);
+            }
+        }
+
+        @Override
+        public void onInterstitialAdClicked(final String instanceId) {
+            final ISDemandOnlyInterstitialListener listener = getInterstitialListener(instanceId,
+                    "onInterstitialAdClicked");
+            if (listener != null) {
+                listener.onInterstitialAdClicked(instanceId);
+            }
+        }
+    };
+
+    private final ISDemandOnlyRewardedVideoListener mRewardedVideoDispatcher = new ISDemandOnlyRewardedVideoListener() {
+        @Override
+        public void onRewardedVideoAdLoadSuccess(final String instanceId) {
+            if (instanceId != null) {
+                recordLoadLatency(instanceId, mRewardedVideoLoadStartTimes, mRewardedVideoLoadLatencies);
+            }
+
+            final ISDemandOnlyRewardedVideoListener listener = getRewardedVideoListener(instanceId,
+                    "onRewardedVideoAdLoadSuccess");
+            if (listener != null) {
+                listener.onRewardedVideoAdLoadSuccess(instanceId);
+            }
+        }
+
+        @Override
+        public void onRewardedVideoAdLoadFailed(final String instanceId, final IronSourceError ironSourceError) {
+            if (instanceId != null) {
+                recordLoadLatency(instanceId, mRewardedVideoLoadStartTimes, mRewardedVideoLoadLatencies);
+            }
+
+            final ISDemandOnlyRewardedVideoListener listener = getRewardedVideoListener(instanceId,
+                    "onRewardedVideoAdLoadFailed");
+            if (listener != null) {
+                listener.onRewardedVideoAdLoadFailed(instanceId, ironSourceError);
+            }
+        }
+
+        @Override
+        public void onRewardedVideoAdOpened(final String instanceId) {
+            final ISDemandOnlyRewardedVideoListener listener = getRewardedVideoListener(instanceId,
+                    "onRewardedVideoAdOpened");
+            if (listener != null) {
+                listener.onRewardedVideoAdOpened(instanceId);
+            }
+        }
+
+        @Override
+        public void onRewardedVideoAdClosed(final String instanceId) {
+            final ISDemandOnlyRewardedVideoListener listener = getRewardedVideoListener(instanceId,
+                    "onRewardedVideoAdClosed");
+            if (listener != null) {
+                listener.onRewardedVideoAdClosed(instanceId);
+            }
+        }
+
+        @Override
+        public void onRewardedVideoAdShowFailed(final String instanceId, final IronSourceError ironSourceError) {
+            final ISDemandOnlyRewardedVideoListener listener = getRewardedVideoListener(instanceId,
+                    "onRewardedVideoAdShowFailed");
+            if (listener != null) {
+                listener.onRewardedVideoAdShowFailed(instanceId, ironSourceError);
+            }
+        }
+
+        @Override
+        public void onRewardedVideoAdClicked(final String instanceId) {
+            final ISDemandOnlyRewardedVideoListener listener = getRewardedVideoListener(instanceId,
+                    "onRewardedVideoAdClicked");
+            if (listener != null) {
+                listener.onRewardedVideoAdClicked(instanceId);
+            }
+        }
+
+        @Override
+        public void onRewardedVideoAdRewarded(final String instanceId) {
+            final ISDemandOnlyRewardedVideoListener listener = getRewardedVideoListener(instanceId,
+                    "onRewardedVideoAdRewarded");
+            if (listener != null) {
+                listener.onRewardedVideoAdRewarded(instanceId);
+            }
+        }
+    };
+}
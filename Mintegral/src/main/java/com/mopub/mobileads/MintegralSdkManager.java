@@ -8,19 +8,29 @@ import com.mbridge.msdk.MBridgeSDK;
 import com.mbridge.msdk.out.MBridgeSDKFactory;
 import com.mbridge.msdk.out.SDKInitStatusListener;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Initializes the Mintegral SDK once for every adapter. Callers that arrive while initialization
+ * is in flight are queued and all notified when it finishes, and callers that arrive after it has
+ * succeeded are told so right away.
+ */
 public final class MintegralSdkManager {
-    private static MBSDKInitializeState currentState;
+    private final AtomicReference<MBSDKInitializeState> currentState =
+            new AtomicReference<>(MBSDKInitializeState.SDK_STATE_UN_INITIALIZE);
 
     private volatile String mAppKey;
     private volatile String mAppId;
-    private volatile MBSDKInitializeListener sdkInitializeListener;
+
+    // Guarded by this.
+    private final List<MBSDKInitializeListener> pendingListeners = new ArrayList<>();
 
     private final MBridgeSDK mintegralSdk;
 
     private MintegralSdkManager() {
-        currentState = MBSDKInitializeState.SDK_STATE_UN_INITIALIZE;
         mintegralSdk = MBridgeSDKFactory.getMBridgeSDK();
     }
 
@@ -32,48 +42,73 @@ public final class MintegralSdkManager {
         return mintegralSdk;
     }
 
-    public synchronized void initialize(final Context context, final String appKey, final String appID,
-                                        final boolean debugLogEnabled, final Map<String, String> map,
-                                        final MBSDKInitializeListener sdkInitializeListener) {
-        if (currentState == MBSDKInitializeState.SDK_STATE_INITIALIZING) {
-            if (null != sdkInitializeListener) {
-                sdkInitializeListener.onInitializeFailure("Mintegral failed to initialize");
-            }
+    public MBSDKInitializeState getCurrentState() {
+        return currentState.get();
+    }
+
+    public void initialize(final Context context, final String appKey, final String appID,
+                           final boolean debugLogEnabled, final Map<String, String> map,
+                           final MBSDKInitializeListener sdkInitializeListener) {
+        if (!checkSDKInitializeEnvironment(context, appKey, appID, sdkInitializeListener)) {
             return;
         }
 
-        this.sdkInitializeListener = sdkInitializeListener;
+        synchronized (this) {
+            final MBSDKInitializeState state = currentState.get();
 
-        if (checkSDKInitializeEnvironment(context, appKey, appID)) {
-            if (currentState == MBSDKInitializeState.SDK_STATE_INITIALIZE_SUCCESS) {
-                if (TextUtils.equals(this.mAppId, appID) && TextUtils.equals(this.mAppKey, appKey)) {
-                    if (null != this.sdkInitializeListener) {
-                        this.sdkInitializeListener.onInitializeSuccess(this.mAppKey, this.mAppId);
-                    }
-                    return;
+            if (state == MBSDKInitializeState.SDK_STATE_INITIALIZE_SUCCESS &&
+                    TextUtils.equals(this.mAppId, appID) && TextUtils.equals(this.mAppKey, appKey)) {
+                if (null != sdkInitializeListener) {
+                    sdkInitializeListener.onInitializeSuccess(appKey, appID);
                 }
+                return;
             }
 
-            currentState = MBSDKInitializeState.SDK_STATE_INITIALIZING;
+            if (null != sdkInitializeListener) {
+                pendingListeners.add(sdkInitializeListener);
+            }
+
+            // Whoever started initialization will notify everyone waiting on it.
+            if (state == MBSDKInitializeState.SDK_STATE_INITIALIZING) {
+                return;
+            }
+
+            currentState.set(MBSDKInitializeState.SDK_STATE_INITIALIZING);
             this.mAppKey = appKey;
             this.mAppId = appID;
+        }
 
-            try {
-                MBridgeConstans.DEBUG = debugLogEnabled;
-                final Map<String, String> configs = mintegralSdk.getMBConfigurationMap(this.mAppId, this.mAppKey);
+        try {
+            MBridgeConstans.DEBUG = debugLogEnabled;
+            final Map<String, String> configs = mintegralSdk.getMBConfigurationMap(appID, appKey);
 
-                if (null != map && !map.isEmpty()) {
-                    configs.putAll(map);
-                }
+            if (null != map && !map.isEmpty()) {
+                configs.putAll(map);
+            }
 
-                mintegralSdk.init(configs, context, new DefaultSDKInitStatusListener(this.mAppKey,
-                        this.mAppId, this.sdkInitializeListener));
-            } catch (Exception e) {
-                currentState = MBSDKInitializeState.SDK_STATE_INITIALIZE_FAILURE;
+            mintegralSdk.init(configs, context, new DefaultSDKInitStatusListener(appKey, appID));
+        } catch (Exception e) {
+            onInitializeFinished(false, appKey, appID, e.getMessage());
+        }
+    }
 
-                if (null != this.sdkInitializeListener) {
-                    sdkInitializeListener.onInitializeFailure(e.getMessage());
-                }
+    private void onInitializeFinished(final boolean success, final String appKey, final String appID,
+                                      final String errorMessage) {
+        final List<MBSDKInitializeListener> listeners;
+
+        synchronized (this) {
+            currentState.set(success ? MBSDKInitializeState.SDK_STATE_INITIALIZE_SUCCESS :
+                    MBSDKInitializeState.SDK_STATE_INITIALIZE_FAILURE);
+
+            listeners = new ArrayList<>(pendingListeners);
+            pendingListeners.clear();
+        }
+
+        for (final MBSDKInitializeListener listener : listeners) {
+            if (success) {
+                listener.onInitializeSuccess(appKey, appID);
+            } else {
+                listener.onInitializeFailure(errorMessage);
             }
         }
     }
@@ -82,38 +117,28 @@ public final class MintegralSdkManager {
         private static final MintegralSdkManager M_BRIDGE_CUSTOM_SDK_MANAGER = new MintegralSdkManager();
     }
 
-    private static class DefaultSDKInitStatusListener implements SDKInitStatusListener {
+    private class DefaultSDKInitStatusListener implements SDKInitStatusListener {
         private final String appKey;
         private final String appID;
-        private final MBSDKInitializeListener sdkInitializeListener;
 
-        public DefaultSDKInitStatusListener(String appKey, String appID,
-                                            MBSDKInitializeListener sdkInitializeListener) {
+        public DefaultSDKInitStatusListener(String appKey, String appID) {
             this.appKey = appKey;
             this.appID = appID;
-            this.sdkInitializeListener = sdkInitializeListener;
         }
 
         @Override
         public void onInitSuccess() {
-            currentState = MBSDKInitializeState.SDK_STATE_INITIALIZE_SUCCESS;
-
-            if (null != sdkInitializeListener) {
-                sdkInitializeListener.onInitializeSuccess(this.appKey, this.appID);
-            }
+            onInitializeFinished(true, appKey, appID, null);
         }
 
         @Override
         public void onInitFail(String errorMsg) {
-            currentState = MBSDKInitializeState.SDK_STATE_INITIALIZE_FAILURE;
-
-            if (null != sdkInitializeListener) {
-                sdkInitializeListener.onInitializeFailure("Mintegral initialization failed: " + errorMsg);
-            }
+            onInitializeFinished(false, appKey, appID, "Mintegral initialization failed: " + errorMsg);
         }
     }
 
-    private boolean checkSDKInitializeEnvironment(final Context context, final String appKey, final String appID) {
+    private boolean checkSDKInitializeEnvironment(final Context context, final String appKey, final String appID,
+                                                  final MBSDKInitializeListener sdkInitializeListener) {
         boolean environmentAvailable = true;
         String errorMessage = "";
 
@@ -130,7 +155,6 @@ public final class MintegralSdkManager {
 
         if (!environmentAvailable && !TextUtils.isEmpty(errorMessage)) {
             if (null != sdkInitializeListener) {
-                currentState = MBSDKInitializeState.SDK_STATE_INITIALIZE_FAILURE;
                 sdkInitializeListener.onInitializeFailure(errorMessage);
             }
         }
@@ -4,6 +4,7 @@ import android.content.Context;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.FrameLayout;
 import android.widget.ImageView;
 import android.widget.TextView;
 
@@ -33,9 +34,27 @@ public class MintegralAdRenderer implements MoPubAdRenderer<MintegralNative.MBri
 
     private final WeakHashMap<View, NativeViewHolder> mViewHolderMap;
 
+    // Views inflated ahead of time by preInflateAdViews.
+    private final MintegralAdViewPool mAdViewPool;
+
     public MintegralAdRenderer(final ViewBinder viewBinder) {
         mViewBinder = viewBinder;
         mViewHolderMap = new WeakHashMap<>();
+        mAdViewPool = new MintegralAdViewPool(new MintegralAdViewPool.ViewFactory() {
+            @NonNull
+            @Override
+            public View createView(@NonNull final Context context) {
+                // A stand-in parent so the layout's root still gets its layout params.
+                final View view = inflateAdView(context, new FrameLayout(context));
+                mViewHolderMap.put(view, NativeViewHolder.fromViewBinder(view, mViewBinder));
+                return view;
+            }
+
+            @Override
+            public void onViewDiscarded(@NonNull final View view) {
+                mViewHolderMap.remove(view);
+            }
+        });
     }
 
     @NonNull
@@ -43,6 +62,33 @@ public class MintegralAdRenderer implements MoPubAdRenderer<MintegralNative.MBri
     public View createAdView(@NonNull final Context context, @Nullable final ViewGroup parent) {
         Preconditions.checkNotNull(context);
 
+        final View preInflatedView = mAdViewPool.poll(context);
+        if (preInflatedView != null) {
+            return preInflatedView;
+        }
+        return inflateAdView(context, parent);
+    }
+
+    /**
+     * Inflates up to {@code count} ad views ahead of time, while the main thread is idle, so that
+     * later calls to {@link #createAdView(Context, ViewGroup)} with the same context can hand out a
+     * ready view whose view holder has already been built. Must be called on the main thread.
+     */
+    public void preInflateAdViews(@NonNull final Context context, final int count) {
+        Preconditions.checkNotNull(context);
+
+        mAdViewPool.fill(context, count);
+    }
+
+    /**
+     * Drops the ad views inflated ahead of time that haven't been handed out yet.
+     */
+    public void clearPreInflatedAdViews() {
+        mAdViewPool.clear();
+    }
+
+    @NonNull
+    private View inflateAdView(@NonNull final Context context, @Nullable final ViewGroup parent) {
         return LayoutInflater.from(context).inflate(mViewBinder.layoutId, parent, false);
     }
 
@@ -76,8 +122,8 @@ public class MintegralAdRenderer implements MoPubAdRenderer<MintegralNative.MBri
         NativeRendererHelper.addTextView(nativeViewHolder.getTitleView(), nativeAd.getTitle());
         NativeRendererHelper.addTextView(nativeViewHolder.getTextView(), nativeAd.getText());
         NativeRendererHelper.addTextView(nativeViewHolder.getCallToActionView(), nativeAd.getCallToAction());
-        NativeImageHelper.loadImageView(nativeAd.getMainImageUrl(), mainImageView);
-        NativeImageHelper.loadImageView(nativeAd.getIconUrl(), nativeViewHolder.getIconImageView());
+        MintegralImageLoader.loadImageView(nativeAd.getMainImageUrl(), mainImageView);
+        MintegralImageLoader.loadImageView(nativeAd.getIconUrl(), nativeViewHolder.getIconImageView());
 
         nativeAd.registerViewForInteraction(nativeViewHolder.getMainView());
 
@@ -93,9 +93,12 @@ public class PangleAdapterConfiguration extends BaseAdapterConfiguration {
     }
 
     @Override
-    public void initializeNetwork(@NonNull Context context, @Nullable Map<String, String> configuration, @NonNull OnNetworkInitializationFinishedListener listener) {
+    public void initializeNetwork(@NonNull Context context, @Nullable Map<String, String> configuration, @NonNull OnNetworkInitializationFinishedListener initializationFinishedListener) {
         Preconditions.checkNotNull(context);
-        Preconditions.checkNotNull(listener);
+        Preconditions.checkNotNull(initializationFinishedListener);
+
+        final OnNetworkInitializationFinishedListener listener =
+                new PangleInitializationTimer(initializationFinishedListener);
 
         boolean networkInitializationSucceeded = false;
         synchronized (PangleAdapterConfiguration.class) {
@@ -5,6 +5,10 @@ import android.text.TextUtils;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.bytedance.sdk.openadsdk.TTNativeAd;
 import com.bytedance.sdk.openadsdk.adapter.MediationAdapterUtil;
@@ -20,13 +24,58 @@ public class PangleAdRenderer implements MoPubAdRenderer<PangleAdNative.PangleNa
 
     private final WeakHashMap<View, PangleAdNativeViewHolder> mViewHolderMap;
 
+    // Views inflated ahead of time by preInflateAdViews.
+    private final PangleAdViewPool mAdViewPool;
+
     public PangleAdRenderer(PangleAdViewBinder viewBinder) {
         this.mViewBinder = viewBinder;
         this.mViewHolderMap = new WeakHashMap();
+        this.mAdViewPool = new PangleAdViewPool(new PangleAdViewPool.ViewFactory() {
+            @NonNull
+            @Override
+            public View createView(@NonNull final Context context) {
+                // A stand-in parent so the layout's root still gets its layout params.
+                final View view = inflateAdView(context, new FrameLayout(context));
+                mViewHolderMap.put(view, PangleAdNativeViewHolder.fromViewBinder(view, mViewBinder));
+                return view;
+            }
+
+            @Override
+            public void onViewDiscarded(@NonNull final View view) {
+                mViewHolderMap.remove(view);
+            }
+        });
     }
 
     @Override
     public View createAdView(Context context, ViewGroup parent) {
+        final View preInflatedView = mAdViewPool.poll(context);
+        if (preInflatedView != null) {
+            return preInflatedView;
+        }
+        return inflateAdView(context, parent);
+    }
+
+    /**
+     * Inflates up to {@code count} ad views ahead of time, while the main thread is idle, so that
+     * later calls to {@link #createAdView(Context, ViewGroup)} with the same context can hand out a
+     * ready view whose view holder has already been built. Must be called on the main thread.
+     */
+    public void preInflateAdViews(@NonNull final Context context, final int count) {
+        Preconditions.checkNotNull(context);
+
+        mAdViewPool.fill(context, count);
+    }
+
+    /**
+     * Drops the ad views inflated ahead of time that haven't been handed out yet.
+     */
+    public void clearPreInflatedAdViews() {
+        mAdViewPool.clear();
+    }
+
+    @NonNull
+    private View inflateAdView(@NonNull final Context context, @Nullable final ViewGroup parent) {
         return LayoutInflater.from(context).inflate(this.mViewBinder.mLayoutId, parent, false);
     }
 
@@ -58,7 +107,7 @@ public class PangleAdRenderer implements MoPubAdRenderer<PangleAdNative.PangleNa
         }
 
         if (ad.getIcon() != null && !TextUtils.isEmpty(ad.getIcon().getImageUrl()) && pangleAdNativeViewHolder.mIcon != null) {
-            NativeImageHelper.loadImageView(ad.getIcon().getImageUrl(), pangleAdNativeViewHolder.mIcon);
+            PangleImageLoader.loadImageView(ad.getIcon().getImageUrl(), pangleAdNativeViewHolder.mIcon);
         }
 
         if (ad.getAdLogo() != null && pangleAdNativeViewHolder.mLogoView != null) {
@@ -0,0 +1,131 @@
+package com.mopub.nativeads;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+
+/**
+ * Ad views inflated ahead of time, while the main thread is idle, for one context at a time. The
+ * pool is emptied when the Activity it inflated views for is destroyed, so it never keeps one
+ * alive. Must only be used on the main thread.
+ */
+final class PangleAdViewPool {
+    private static final int MAX_VIEWS = 3;
+
+    interface ViewFactory {
+        @NonNull
+        View createView(@NonNull Context context);
+
+        void onViewDiscarded(@NonNull View view);
+    }
+
+    @NonNull
+    private final ViewFactory mViewFactory;
+    @NonNull
+    private final ArrayDeque<View> mViews = new ArrayDeque<>(MAX_VIEWS);
+    // The context the pooled views belong to, or null once the pool has been cleared.
+    @Nullable
+    private Context mContext;
+    private int mTargetCount;
+    private boolean mIsFilling;
+
+    private final MessageQueue.IdleHandler mIdleHandler = new MessageQueue.IdleHandler() {
+        @Override
+        public boolean queueIdle() {
+            if (mContext == null || mViews.size() >= mTargetCount) {
+                mIsFilling = false;
+                return false;
+            }
+
+            mViews.offerLast(mViewFactory.createView(mContext));
+            mIsFilling = mViews.size() < mTargetCount;
+            return mIsFilling;
+        }
+    };
+
+    private final Application.ActivityLifecycleCallbacks mActivityLifecycleCallbacks =
+            new Application.ActivityLifecycleCallbacks() {
+                @Override
+                public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+                }
+
+                @Override
+                public void onActivityStarted(@NonNull Activity activity) {
+                }
+
+                @Override
+                public void onActivityResumed(@NonNull Activity activity) {
+                }
+
+                @Override
+                public void onActivityPaused(@NonNull Activity activity) {
+                }
+
+                @Override
+                public void onActivityStopped(@NonNull Activity activity) {
+                }
+
+                @Override
+                public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+                }
+
+                @Override
+                public void onActivityDestroyed(@NonNull Activity activity) {
+                    if (activity == mContext) {
+                        clear();
+                    }
+                }
+            };
+
+    PangleAdViewPool(@NonNull final ViewFactory viewFactory) {
+        mViewFactory = viewFactory;
+    }
+
+    /**
+     * Inflates up to {@code count} views for the context while the main thread is idle. Views
+     * pooled for another context are dropped.
+     */
+    void fill(@NonNull final Context context, final int count) {
+        if (context != mContext) {
+            clear();
+            mContext = context;
+            if (context instanceof Activity) {
+                ((Activity) context).getApplication()
+                        .registerActivityLifecycleCallbacks(mActivityLifecycleCallbacks);
+            }
+        }
+
+        mTargetCount = Math.min(count, MAX_VIEWS);
+        if (!mIsFilling) {
+            mIsFilling = true;
+            Looper.myQueue().addIdleHandler(mIdleHandler);
+        }
+    }
+
+    @Nullable
+    View poll(@NonNull final Context context) {
+        return context == mContext ? mViews.pollFirst() : null;
+    }
+
+    void clear() {
+        View view;
+        while ((view = mViews.pollFirst()) != null) {
+            mViewFactory.onViewDiscarded(view);
+        }
+
+        if (mContext instanceof Activity) {
+            ((Activity) mContext).getApplication()
+                    .unregisterActivityLifecycleCallbacks(mActivityLifecycleCallbacks);
+        }
+        mContext = null;
+    }
+}
@@ -0,0 +1,279 @@
+package com.mopub.nativeads;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+import android.text.TextUtils;
+import android.util.LruCache;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.CacheService;
+import com.mopub.common.logging.MoPubLog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
+
+/**
+ * Loads the images of Pangle native ads into their views. Images are decoded off the main
+ * thread, downsampled to the size of the view they are shown in, and kept in a byte-bounded memory
+ * cache in front of the MoPub SDK's disk cache, so scrolling back to an ad neither downloads nor
+ * decodes its images again. A cached image is only reused for views it is at least as large as,
+ * unless it already is at full resolution.
+ * <p>
+ * Binding a view to a new image cancels whatever it was still waiting for, so a recycled view never
+ * shows the image of the ad it was previously bound to. Must be called on the main thread.
+ */
+final class PangleImageLoader {
+    private static final int MAX_PARALLEL_FETCHES = 2;
+    private static final int CONNECT_TIMEOUT_MILLIS = 10000;
+    private static final int READ_TIMEOUT_MILLIS = 10000;
+    private static final int MAX_MEMORY_CACHE_BYTES = 8 * 1024 * 1024;
+    private static final int BUFFER_BYTES = 16 * 1024;
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+    private static final ExecutorService sExecutor =
+            Executors.newFixedThreadPool(MAX_PARALLEL_FETCHES);
+
+    private static final LruCache<String, CachedImage> sMemoryCache =
+            new LruCache<String, CachedImage>((int) Math.min(MAX_MEMORY_CACHE_BYTES,
+                    Runtime.getRuntime().maxMemory() / 16)) {
+                @Override
+                protected int sizeOf(String url, CachedImage image) {
+                    return image.bitmap.getByteCount();
+                }
+            };
+
+    // Each fetch thread decodes with its own scratch buffer instead of allocating one per image.
+    private static final ThreadLocal<byte[]> sDecodeBuffer = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[BUFFER_BYTES];
+        }
+    };
+
+    // The request each view is currently waiting for. Only accessed on the main thread.
+    private static final Map<ImageView, Request> sRequests = new WeakHashMap<>();
+
+    private static class CachedImage {
+        @NonNull
+        final Bitmap bitmap;
+        final boolean isFullResolution;
+
+        CachedImage(@NonNull final Bitmap bitmap, final boolean isFullResolution) {
+            this.bitmap = bitmap;
+            this.isFullResolution = isFullResolution;
+        }
+
+        boolean fits(final int width, final int height) {
+            return isFullResolution || (bitmap.getWidth() >= width && bitmap.getHeight() >= height);
+        }
+    }
+
+    private static class Request implements Runnable {
+        @NonNull
+        final String url;
+        @NonNull
+        final WeakReference<ImageView> imageViewRef;
+        final int reqWidth;
+        final int reqHeight;
+        volatile boolean isCancelled;
+        @Nullable
+        Future<?> future;
+
+        Request(@NonNull final String url, @NonNull final ImageView imageView,
+                final int reqWidth, final int reqHeight) {
+            this.url = url;
+            this.imageViewRef = new WeakReference<>(imageView);
+            this.reqWidth = reqWidth;
+            this.reqHeight = reqHeight;
+        }
+
+        void cancel() {
+            isCancelled = true;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (isCancelled) {
+                return;
+            }
+
+            final CachedImage image = fetch(url, reqWidth, reqHeight);
+            sMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    onFetchFinished(Request.this, image);
+                }
+            });
+        }
+    }
+
+    private PangleImageLoader() {
+    }
+
+    /**
+     * Shows the image at the given URL in the view, or clears the view if there is no URL.
+     */
+    static void loadImageView(@Nullable final String url, @Nullable final ImageView imageView) {
+        if (imageView == null) {
+            return;
+        }
+
+        final Request previous = sRequests.remove(imageView);
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        if (TextUtils.isEmpty(url)) {
+            imageView.setImageDrawable(null);
+            return;
+        }
+
+        final int targetWidth = getTargetWidth(imageView);
+        final int targetHeight = getTargetHeight(imageView);
+
+        // An image decoded for a smaller view is decoded again, from the disk cache, for this one.
+        final CachedImage cached = sMemoryCache.get(url);
+        if (cached != null && cached.fits(targetWidth, targetHeight)) {
+            imageView.setImageBitmap(cached.bitmap);
+            return;
+        }
+
+        imageView.setImageDrawable(null);
+        CacheService.initialize(imageView.getContext());
+
+        final Request request = new Request(url, imageView, targetWidth, targetHeight);
+        sRequests.put(imageView, request);
+        request.future = sExecutor.submit(request);
+    }
+
+    private static void onFetchFinished(@NonNull final Request request,
+                                        @Nullable final CachedImage image) {
+        if (image != null) {
+            // Keep whichever decode is larger, so it serves the most views.
+            final CachedImage cached = sMemoryCache.get(request.url);
+            if (cached == null
+                    || cached.bitmap.getByteCount() < image.bitmap.getByteCount()) {
+                sMemoryCache.put(request.url, image);
+            }
+        }
+
+        final ImageView imageView = request.imageViewRef.get();
+        if (request.isCancelled || imageView == null || sRequests.get(imageView) != request) {
+            return;
+        }
+
+        sRequests.remove(imageView);
+        if (image != null) {
+            imageView.setImageBitmap(image.bitmap);
+        }
+    }
+
+    // Views that haven't been laid out yet are bounded by their fixed layout size, if any, or by
+    // the screen.
+    private static int getTargetWidth(@NonNull final ImageView imageView) {
+        if (imageView.getWidth() > 0) {
+            return imageView.getWidth();
+        }
+
+        final ViewGroup.LayoutParams params = imageView.getLayoutParams();
+        if (params != null && params.width > 0) {
+            return params.width;
+        }
+        return imageView.getResources().getDisplayMetrics().widthPixels;
+    }
+
+    private static int getTargetHeight(@NonNull final ImageView imageView) {
+        if (imageView.getHeight() > 0) {
+            return imageView.getHeight();
+        }
+
+        final ViewGroup.LayoutParams params = imageView.getLayoutParams();
+        if (params != null && params.height > 0) {
+            return params.height;
+        }
+        return imageView.getResources().getDisplayMetrics().heightPixels;
+    }
+
+    @Nullable
+    private static CachedImage fetch(@NonNull final String url, final int reqWidth,
+                                     final int reqHeight) {
+        try {
+            byte[] data = CacheService.getFromDiskCache(url);
+            if (data == null) {
+                data = download(url);
+                CacheService.putToDiskCache(url, data);
+            }
+
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inTempStorage = sDecodeBuffer.get();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray(data, 0, data.length, options);
+
+            options.inSampleSize = calculateInSampleSize(options.outWidth, options.outHeight,
+                    reqWidth, reqHeight);
+            options.inJustDecodeBounds = false;
+            final Bitmap bitmap = BitmapFactory.decodeByteArray(data, 0, data.length, options);
+            return bitmap == null ? null : new CachedImage(bitmap, options.inSampleSize == 1);
+        } catch (IOException | RuntimeException | OutOfMemoryError e) {
+            // Anything thrown here would otherwise be swallowed by the executor, leaving the view
+            // waiting on a request that never finishes.
+            MoPubLog.log(CUSTOM_WITH_THROWABLE, "Failed to load Pangle native ad image: " + url, e);
+            return null;
+        }
+    }
+
+    @NonNull
+    private static byte[] download(@NonNull final String url) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+
+        try (InputStream inputStream = connection.getInputStream()) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[BUFFER_BYTES];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * @return the largest power of two that keeps both dimensions at least as large as requested.
+     */
+    private static int calculateInSampleSize(final int width, final int height,
+                                             final int reqWidth, final int reqHeight) {
+        int inSampleSize = 1;
+        if (reqWidth <= 0 || reqHeight <= 0) {
+            return inSampleSize;
+        }
+
+        while (width / (inSampleSize * 2) >= reqWidth && height / (inSampleSize * 2) >= reqHeight) {
+            inSampleSize *= 2;
+        }
+        return inSampleSize;
+    }
+}
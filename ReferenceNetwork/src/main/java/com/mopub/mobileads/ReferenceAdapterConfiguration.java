@@ -109,7 +109,7 @@ public class ReferenceAdapterConfiguration extends BaseAdapterConfiguration {
         // exposed to external implementations.
         synchronized (ReferenceAdapterConfiguration.class) {
             try {
-                ReferenceSdk.initialize(new ReferenceSdk.ReferenceInitializationListener() {
+                ReferenceSdk.initialize(context, new ReferenceSdk.ReferenceInitializationListener() {
                     @Override
                     public void onInitializationFinished() {
                         MoPubLog.log(CUSTOM, ADAPTER_NAME, "Reference Network initialized.");
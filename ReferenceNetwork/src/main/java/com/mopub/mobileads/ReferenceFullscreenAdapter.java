@@ -14,6 +14,7 @@ import com.mopub.common.LifecycleListener;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.sdk.ReferenceError;
 import com.mopub.sdk.ReferenceFullScreenAd;
 
 import java.util.Map;
@@ -218,8 +219,9 @@ public class ReferenceFullscreenAdapter extends BaseAd
 
     // Override the network SDK's load failure callback to signal the ad has failed to load
     @Override
-    public void onFullScreenAdLoadFailed() {
-        failAdRequest("Reference fullscreen ad failed to load.");
+    public void onFullScreenAdLoadFailed(ReferenceError error) {
+        failAdRequest("Reference fullscreen ad failed to load with error: " + error,
+                getMoPubErrorCode(error));
     }
 
     // Override the network SDK's show failure callback to signal the ad has failed to show
@@ -272,14 +274,19 @@ public class ReferenceFullscreenAdapter extends BaseAd
     }
 
     private void failAdRequest(String errorMsg) {
+        failAdRequest(errorMsg, NO_FILL);
+    }
+
+    private void failAdRequest(String errorMsg, MoPubErrorCode loadErrorCode) {
         MoPubLog.log(CUSTOM, ADAPTER_NAME, errorMsg);
 
         // Use the appropriate listener depending on whether the ad fails to load or to show.
         // Use mLoadListener for load-related events. Use mInteractionListener for show-related events.
         if (mInteractionListener == null && mLoadListener != null) {
-            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, NO_FILL.getIntCode(), NO_FILL);
+            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, loadErrorCode.getIntCode(),
+                    loadErrorCode);
 
-            mLoadListener.onAdLoadFailed(NO_FILL);
+            mLoadListener.onAdLoadFailed(loadErrorCode);
         } else if (mInteractionListener != null) {
             MoPubLog.log(getAdNetworkId(), SHOW_FAILED, ADAPTER_NAME, AD_SHOW_ERROR.getIntCode(),
                     AD_SHOW_ERROR);
@@ -287,4 +294,20 @@ public class ReferenceFullscreenAdapter extends BaseAd
             mInteractionListener.onAdFailed(NO_FILL);
         }
     }
+
+    // Translate the network SDK's load error into the closest MoPub error code
+    @NonNull
+    private static MoPubErrorCode getMoPubErrorCode(@NonNull final ReferenceError error) {
+        switch (error) {
+            case NETWORK_ERROR:
+                return MoPubErrorCode.NO_CONNECTION;
+            case TIMEOUT:
+                return MoPubErrorCode.NETWORK_TIMEOUT;
+            case INTERNAL_ERROR:
+                return MoPubErrorCode.INTERNAL_ERROR;
+            case NO_FILL:
+            default:
+                return MoPubErrorCode.NO_FILL;
+        }
+    }
 }
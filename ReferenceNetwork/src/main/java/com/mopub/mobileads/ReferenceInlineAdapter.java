@@ -14,6 +14,7 @@ import androidx.annotation.Nullable;
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
+import com.mopub.sdk.ReferenceError;
 import com.mopub.sdk.ReferenceInlineAd;
 
 import java.util.Map;
@@ -202,8 +203,9 @@ public class ReferenceInlineAdapter extends BaseAd
 
     // Override the network SDK's load failure callback to signal the ad has failed to load
     @Override
-    public void onAdFailedToLoad() {
-        failAdRequest("Reference inline ad failed to load.");
+    public void onAdFailedToLoad(ReferenceError error) {
+        failAdRequest("Reference inline ad failed to load with error: " + error,
+                getMoPubErrorCode(error));
     }
 
     // Override the network SDK's clicked callback to signal the ad has been clicked
@@ -217,16 +219,35 @@ public class ReferenceInlineAdapter extends BaseAd
     }
 
     private void failAdRequest(String errorMsg) {
+        failAdRequest(errorMsg, MoPubErrorCode.NO_FILL);
+    }
+
+    private void failAdRequest(String errorMsg, MoPubErrorCode errorCode) {
         MoPubLog.log(CUSTOM, ADAPTER_NAME, errorMsg);
-        MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, MoPubErrorCode.NO_FILL.getIntCode(),
-                MoPubErrorCode.NO_FILL);
+        MoPubLog.log(LOAD_FAILED, ADAPTER_NAME, errorCode.getIntCode(), errorCode);
 
         // Use the appropriate listener depending on whether the ad fails to load or to show.
         // Use mLoadListener for load-related events. Use mInteractionListener for show-related events.
         if (mInteractionListener == null && mLoadListener != null) {
-            mLoadListener.onAdLoadFailed(MoPubErrorCode.NO_FILL);
+            mLoadListener.onAdLoadFailed(errorCode);
         } else if (mInteractionListener != null) {
-            mInteractionListener.onAdFailed(MoPubErrorCode.NO_FILL);
+            mInteractionListener.onAdFailed(errorCode);
+        }
+    }
+
+    // Translate the network SDK's load error into the closest MoPub error code
+    @NonNull
+    private static MoPubErrorCode getMoPubErrorCode(@NonNull final ReferenceError error) {
+        switch (error) {
+            case NETWORK_ERROR:
+                return MoPubErrorCode.NO_CONNECTION;
+            case TIMEOUT:
+                return MoPubErrorCode.NETWORK_TIMEOUT;
+            case INTERNAL_ERROR:
+                return MoPubErrorCode.INTERNAL_ERROR;
+            case NO_FILL:
+            default:
+                return MoPubErrorCode.NO_FILL;
         }
     }
 }
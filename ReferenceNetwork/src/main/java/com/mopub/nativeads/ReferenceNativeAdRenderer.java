@@ -111,8 +111,8 @@ public class ReferenceNativeAdRenderer implements MoPubAdRenderer<ReferenceNativ
         NativeRendererHelper.addTextView(referenceNativeViewHolder.getSponsoredLabelView(),
                 nativeAd.getSponsoredName());
 
-        NativeImageHelper.loadImageView(nativeAd.getMainImageUrl(), referenceNativeViewHolder.mainImageView);
-        NativeImageHelper.loadImageView(nativeAd.getIconImageUrl(), referenceNativeViewHolder.iconImageView);
+        ReferenceImageLoader.loadImageView(nativeAd.getMainImageUrl(), referenceNativeViewHolder.mainImageView);
+        ReferenceImageLoader.loadImageView(nativeAd.getIconImageUrl(), referenceNativeViewHolder.iconImageView);
     }
 
     static class ReferenceNativeViewHolder {
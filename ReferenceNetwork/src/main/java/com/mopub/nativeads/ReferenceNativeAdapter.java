@@ -13,6 +13,7 @@ import androidx.annotation.Nullable;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.ReferenceAdapterConfiguration;
+import com.mopub.sdk.ReferenceError;
 import com.mopub.sdk.ReferenceNativeAdBase;
 
 import java.util.Map;
@@ -100,6 +101,22 @@ public class ReferenceNativeAdapter extends CustomEventNative {
         return mAdUnitId == null ? "" : mAdUnitId;
     }
 
+    // Translate the network SDK's load error into the closest native error code
+    @NonNull
+    private static NativeErrorCode getNativeErrorCode(@NonNull final ReferenceError error) {
+        switch (error) {
+            case NETWORK_ERROR:
+                return NativeErrorCode.CONNECTION_ERROR;
+            case TIMEOUT:
+                return NativeErrorCode.NETWORK_TIMEOUT;
+            case INTERNAL_ERROR:
+                return NativeErrorCode.UNSPECIFIED;
+            case NO_FILL:
+            default:
+                return NETWORK_NO_FILL;
+        }
+    }
+
     public static class ReferenceNativeAd extends BaseNativeAd implements ReferenceNativeAdBase.ReferenceNativeAdListener {
         private ReferenceNativeAdBase mNativeAd;
 
@@ -189,12 +206,13 @@ public class ReferenceNativeAdapter extends CustomEventNative {
         }
 
         @Override
-        public void onAdFailedToLoad() {
-            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, NETWORK_NO_FILL.getIntCode(),
-                    NETWORK_NO_FILL);
+        public void onAdFailedToLoad(ReferenceError error) {
+            final NativeErrorCode errorCode = getNativeErrorCode(error);
+            MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, errorCode.getIntCode(),
+                    errorCode);
 
             if (mCustomEventNativeListener != null) {
-                mCustomEventNativeListener.onNativeAdFailed(NETWORK_NO_FILL);
+                mCustomEventNativeListener.onNativeAdFailed(errorCode);
             }
         }
 
@@ -206,6 +224,9 @@ public class ReferenceNativeAdapter extends CustomEventNative {
          */
         @Override
         public void prepare(@NonNull View view) {
+            if (mNativeAd != null) {
+                mNativeAd.registerAdView(view);
+            }
         }
 
         /**
@@ -218,6 +239,10 @@ public class ReferenceNativeAdapter extends CustomEventNative {
         @Override
         public void clear(@NonNull View view) {
             Preconditions.checkNotNull(view);
+
+            if (mNativeAd != null) {
+                mNativeAd.registerAdView(null);
+            }
         }
 
         /**
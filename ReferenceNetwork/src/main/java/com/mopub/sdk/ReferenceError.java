@@ -0,0 +1,17 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.sdk;
+
+/**
+ * Load errors reported by the simple network SDK.
+ * <p>
+ * INTERNAL USE ONLY. DO NOT REFERENCE OTHERWISE.
+ */
+public enum ReferenceError {
+    NO_FILL,
+    NETWORK_ERROR,
+    TIMEOUT,
+    INTERNAL_ERROR
+}
@@ -0,0 +1,134 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.sdk;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Message;
+import android.util.LongSparseArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+
+/**
+ * Forwards fullscreen ad events from {@link ReferenceFullScreenActivity} to the listener of the
+ * ad that launched it, keyed by broadcast identifier. Events are queued on the main looper, so
+ * they are delivered asynchronously, on the main thread and in the order they were posted, just
+ * like local broadcasts, but without building and matching an Intent for each one.
+ * <p>
+ * Setting {@link #setBroadcastCompatibilityEnabled(boolean)} routes events through
+ * {@link ReferenceIntentActions} local broadcasts instead.
+ * <p>
+ * INTERNAL USE ONLY. DO NOT REFERENCE OTHERWISE.
+ */
+public class ReferenceEventBus {
+
+    public enum FullScreenEvent {
+        FAIL(ReferenceIntentActions.ACTION_FULLSCREEN_FAIL),
+        SHOW(ReferenceIntentActions.ACTION_FULLSCREEN_SHOW),
+        DISMISS(ReferenceIntentActions.ACTION_FULLSCREEN_DISMISS),
+        CLICK(ReferenceIntentActions.ACTION_FULLSCREEN_CLICK),
+        REWARD(ReferenceIntentActions.ACTION_REWARDED_AD_REWARD);
+
+        private static final FullScreenEvent[] VALUES = values();
+
+        @NonNull
+        private final String mIntentAction;
+
+        FullScreenEvent(@NonNull final String intentAction) {
+            mIntentAction = intentAction;
+        }
+    }
+
+    // Only accessed on the main thread.
+    private static final LongSparseArray<ReferenceFullScreenAd.ReferenceFullScreenAdListener> sListeners =
+            new LongSparseArray<>();
+
+    private static volatile boolean sBroadcastCompatibilityEnabled;
+
+    private static final Handler sHandler = new Handler(Looper.getMainLooper()) {
+        @Override
+        public void handleMessage(@NonNull Message message) {
+            // The identifier is split across both arguments so posting doesn't box it.
+            final long broadcastIdentifier = ((long) message.arg1 << 32) | (message.arg2 & 0xFFFFFFFFL);
+            dispatch(broadcastIdentifier, FullScreenEvent.VALUES[message.what]);
+        }
+    };
+
+    private ReferenceEventBus() {
+    }
+
+    /**
+     * Must be set before an ad is shown; ads already on screen keep the path they started with.
+     */
+    public static void setBroadcastCompatibilityEnabled(final boolean enabled) {
+        sBroadcastCompatibilityEnabled = enabled;
+    }
+
+    public static boolean isBroadcastCompatibilityEnabled() {
+        return sBroadcastCompatibilityEnabled;
+    }
+
+    /**
+     * Registers the listener for the ad with the given broadcast identifier. Must be called on the
+     * main thread. The listener is dropped after it has been told the ad was dismissed.
+     */
+    public static void register(final long broadcastIdentifier,
+                                @NonNull final ReferenceFullScreenAd.ReferenceFullScreenAdListener listener) {
+        Preconditions.checkNotNull(listener);
+        sListeners.put(broadcastIdentifier, listener);
+    }
+
+    /**
+     * Must be called on the main thread.
+     */
+    public static void unregister(final long broadcastIdentifier) {
+        sListeners.remove(broadcastIdentifier);
+    }
+
+    public static void post(@NonNull final Context context, final long broadcastIdentifier,
+                            @NonNull final FullScreenEvent event) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(event);
+
+        if (sBroadcastCompatibilityEnabled) {
+            ReferenceBroadcastReceiver.broadcastAction(context, broadcastIdentifier, event.mIntentAction);
+            return;
+        }
+
+        sHandler.obtainMessage(event.ordinal(), (int) (broadcastIdentifier >>> 32),
+                (int) broadcastIdentifier).sendToTarget();
+    }
+
+    private static void dispatch(final long broadcastIdentifier, @NonNull final FullScreenEvent event) {
+        @Nullable final ReferenceFullScreenAd.ReferenceFullScreenAdListener listener =
+                sListeners.get(broadcastIdentifier);
+        if (listener == null) {
+            return;
+        }
+
+        switch (event) {
+            case FAIL:
+                listener.onFullScreenAdLoadFailed(ReferenceError.INTERNAL_ERROR);
+                break;
+            case SHOW:
+                listener.onFullScreenAdShown();
+                break;
+            case DISMISS:
+                listener.onFullScreenAdDismissed();
+                unregister(broadcastIdentifier);
+                break;
+            case CLICK:
+                listener.onFullScreenAdClicked();
+                break;
+            case REWARD:
+                listener.onFullScreenAdRewarded();
+                break;
+        }
+    }
+}
@@ -49,7 +49,7 @@ public class ReferenceEventForwardingBroadcastReceiver extends ReferenceBroadcas
 
         final String action = intent.getAction();
         if (ReferenceIntentActions.ACTION_FULLSCREEN_FAIL.equals(action)) {
-            mListener.onFullScreenAdLoadFailed();
+            mListener.onFullScreenAdLoadFailed(ReferenceError.INTERNAL_ERROR);
         } else if (ReferenceIntentActions.ACTION_FULLSCREEN_SHOW.equals(action)) {
             mListener.onFullScreenAdShown();
         } else if (ReferenceIntentActions.ACTION_FULLSCREEN_DISMISS.equals(action)) {
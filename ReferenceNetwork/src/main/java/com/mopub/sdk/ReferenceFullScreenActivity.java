@@ -17,15 +17,12 @@ import android.webkit.WebView;
 import android.widget.VideoView;
 
 import com.mopub.mobileads.referencenetwork.R;
+import com.mopub.sdk.ReferenceEventBus.FullScreenEvent;
 
 import static com.mopub.sdk.ReferenceConstants.BROADCAST_IDENTIFIER_KEY;
 import static com.mopub.sdk.ReferenceConstants.CLICKTHROUGH_URL;
 import static com.mopub.sdk.ReferenceConstants.FULLSCREEN_MARKUP_KEY;
 import static com.mopub.sdk.ReferenceConstants.REWARDED_KEY;
-import static com.mopub.sdk.ReferenceIntentActions.ACTION_FULLSCREEN_CLICK;
-import static com.mopub.sdk.ReferenceIntentActions.ACTION_FULLSCREEN_DISMISS;
-import static com.mopub.sdk.ReferenceIntentActions.ACTION_FULLSCREEN_SHOW;
-import static com.mopub.sdk.ReferenceIntentActions.ACTION_REWARDED_AD_REWARD;
 
 /**
  * A simple network SDK implementation that works with the reference adapters to show a fullscreen ad.
@@ -103,7 +100,7 @@ public class ReferenceFullScreenActivity extends Activity {
             });
         }
 
-        ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_FULLSCREEN_SHOW);
+        ReferenceEventBus.post(getApplicationContext(), mBroadcastIdentifier, FullScreenEvent.SHOW);
     }
 
     @Override
@@ -111,10 +108,10 @@ public class ReferenceFullScreenActivity extends Activity {
         super.onBackPressed();
 
         if (mIsAdRewarded) {
-            ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_REWARDED_AD_REWARD);
+            ReferenceEventBus.post(getApplicationContext(), mBroadcastIdentifier, FullScreenEvent.REWARD);
         }
 
-        ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_FULLSCREEN_DISMISS);
+        ReferenceEventBus.post(getApplicationContext(), mBroadcastIdentifier, FullScreenEvent.DISMISS);
 
         cleanUp();
     }
@@ -124,10 +121,10 @@ public class ReferenceFullScreenActivity extends Activity {
         super.onDestroy();
 
         if (mIsAdRewarded) {
-            ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_REWARDED_AD_REWARD);
+            ReferenceEventBus.post(getApplicationContext(), mBroadcastIdentifier, FullScreenEvent.REWARD);
         }
 
-        ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_FULLSCREEN_DISMISS);
+        ReferenceEventBus.post(getApplicationContext(), mBroadcastIdentifier, FullScreenEvent.DISMISS);
 
         cleanUp();
     }
@@ -145,7 +142,7 @@ public class ReferenceFullScreenActivity extends Activity {
     }
 
     private void performClick() {
-        ReferenceBroadcastReceiver.broadcastAction(getApplicationContext(), mBroadcastIdentifier, ACTION_FULLSCREEN_CLICK);
+        ReferenceEventBus.post(getApplicationContext(), mBroadcastIdentifier, FullScreenEvent.CLICK);
 
         final Intent browserIntent = new Intent(Intent.ACTION_VIEW, Uri.parse(CLICKTHROUGH_URL));
         browserIntent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
@@ -7,6 +7,8 @@ package com.mopub.sdk;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.Intent;
+import android.os.Handler;
+import android.os.Looper;
 import android.webkit.WebView;
 import android.widget.RelativeLayout;
 
@@ -16,6 +18,7 @@ import com.mopub.common.util.Utils;
 
 import static com.mopub.sdk.ReferenceConstants.BROADCAST_IDENTIFIER_KEY;
 import static com.mopub.sdk.ReferenceConstants.REWARDED_KEY;
+import static com.mopub.sdk.ReferenceSimulation.AdFormat.FULL_SCREEN;
 
 /**
  * A simple network SDK implementation that works with the reference adapters to request a fullscreen ad.
@@ -29,6 +32,7 @@ public class ReferenceFullScreenAd extends RelativeLayout {
 
     private final Context mContext;
     private final ReferenceFullScreenAdListener mListener;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
 
     private String mFullscreenAdMarkup;
 
@@ -38,7 +42,7 @@ public class ReferenceFullScreenAd extends RelativeLayout {
     public interface ReferenceFullScreenAdListener {
         void onFullScreenAdLoaded();
 
-        void onFullScreenAdLoadFailed();
+        void onFullScreenAdLoadFailed(ReferenceError error);
 
         void onFullScreenAdShowFailed();
 
@@ -68,26 +72,49 @@ public class ReferenceFullScreenAd extends RelativeLayout {
             mFullscreenAdMarkup = ReferenceConstants.VIDEO_MARKUP;
         }
 
-        mFullscreenAdContainer = new WebView(mContext);
-
-        if (mListener != null) {
-            mListener.onFullScreenAdLoaded();
-        }
+        final ReferenceSimulation simulation = ReferenceSdk.getSimulation();
+        final long loadLatencyMillis = simulation.nextLoadLatencyMillis(FULL_SCREEN);
+        final ReferenceError error = simulation.nextLoadError();
+
+        mHandler.postDelayed(new Runnable() {
+            @Override
+            public void run() {
+                if (error != null) {
+                    if (mListener != null) {
+                        mListener.onFullScreenAdLoadFailed(error);
+                    }
+                    return;
+                }
+
+                mFullscreenAdContainer = ReferenceWebViewPool.acquire(mContext);
+
+                if (mListener != null) {
+                    mListener.onFullScreenAdLoaded();
+                }
+            }
+        }, loadLatencyMillis);
     }
 
     public void destroy() {
+        mHandler.removeCallbacksAndMessages(null);
+
         if (mFullscreenAdContainer != null) {
-            mFullscreenAdContainer.destroy();
+            ReferenceWebViewPool.release(mFullscreenAdContainer);
             mFullscreenAdContainer = null;
         }
     }
 
     public void show() {
         long broadcastIdentifier = Utils.generateUniqueId();
-        final ReferenceEventForwardingBroadcastReceiver mBroadcastReceiver = new
-                ReferenceEventForwardingBroadcastReceiver(mListener, broadcastIdentifier);
 
-        mBroadcastReceiver.register(mBroadcastReceiver, mContext);
+        if (ReferenceEventBus.isBroadcastCompatibilityEnabled()) {
+            final ReferenceEventForwardingBroadcastReceiver mBroadcastReceiver = new
+                    ReferenceEventForwardingBroadcastReceiver(mListener, broadcastIdentifier);
+
+            mBroadcastReceiver.register(mBroadcastReceiver, mContext);
+        } else if (mListener != null) {
+            ReferenceEventBus.register(broadcastIdentifier, mListener);
+        }
 
         final Intent fullScreenActivity = new Intent(mContext, ReferenceFullScreenActivity.class);
         fullScreenActivity.putExtra(ReferenceConstants.FULLSCREEN_MARKUP_KEY, mFullscreenAdMarkup);
@@ -10,6 +10,7 @@ import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
 import android.os.Handler;
+import android.os.Looper;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewConfiguration;
@@ -20,6 +21,7 @@ import androidx.annotation.Nullable;
 
 import static com.mopub.common.IntentActions.ACTION_FULLSCREEN_CLICK;
 import static com.mopub.sdk.ReferenceConstants.CLICKTHROUGH_URL;
+import static com.mopub.sdk.ReferenceSimulation.AdFormat.INLINE;
 
 /**
  * A simple network SDK implementation that works with the reference adapters to request and show an
@@ -30,6 +32,7 @@ import static com.mopub.sdk.ReferenceConstants.CLICKTHROUGH_URL;
 @SuppressLint("ViewConstructor")
 public class ReferenceInlineAd extends RelativeLayout {
     private final Context mContext;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
     private ReferenceInlineAdListener mListener;
 
     @Nullable
@@ -40,7 +43,7 @@ public class ReferenceInlineAd extends RelativeLayout {
 
         void onAdImpression();
 
-        void onAdFailedToLoad();
+        void onAdFailedToLoad(ReferenceError error);
 
         void onAdClicked();
     }
@@ -52,11 +55,56 @@ public class ReferenceInlineAd extends RelativeLayout {
         this.mListener = listener;
     }
 
-    @SuppressLint({"SetJavaScriptEnabled", "ClickableViewAccessibility"})
     public void loadAd() {
+        // Draw every decision up front so concurrent ads consume the simulation in request order
+        final ReferenceSimulation simulation = ReferenceSdk.getSimulation();
+        final long loadLatencyMillis = simulation.nextLoadLatencyMillis(INLINE);
+        final ReferenceError error = simulation.nextLoadError();
+        final long impressionLatencyMillis = simulation.nextImpressionLatencyMillis(INLINE);
+        final boolean impressionBeforeLoad = simulation.isImpressionBeforeLoad();
+
+        mHandler.postDelayed(new Runnable() {
+            @Override
+            public void run() {
+                if (mListener == null) {
+                    return;
+                }
+
+                if (error != null) {
+                    mListener.onAdFailedToLoad(error);
+                    return;
+                }
+
+                createAdContainer();
+
+                if (impressionBeforeLoad) {
+                    mListener.onAdImpression();
+                    mListener.onAdLoaded();
+                    return;
+                }
+
+                mListener.onAdLoaded();
+
+                // Since an inline ad shows when it's loaded, an impression might be assumed to be
+                // tracked at the same time. For simplicity, we simulate an impression callback with
+                // no considerations for metrics.
+                mHandler.postDelayed(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (mListener != null) {
+                            mListener.onAdImpression();
+                        }
+                    }
+                }, impressionLatencyMillis);
+            }
+        }, loadLatencyMillis);
+    }
+
+    @SuppressLint({"SetJavaScriptEnabled", "ClickableViewAccessibility"})
+    private void createAdContainer() {
         final String inlineAdMarkup = ReferenceConstants.STATIC_MARKUP;
 
-        mInlineAdContainer = new WebView(mContext);
+        mInlineAdContainer = ReferenceWebViewPool.acquire(mContext);
         mInlineAdContainer.setLayoutParams(new ActionBar.LayoutParams(320, 50));
 
         mInlineAdContainer.getSettings().setJavaScriptEnabled(true);
@@ -87,27 +135,13 @@ public class ReferenceInlineAd extends RelativeLayout {
                 return true;
             }
         });
-
-        if (mListener != null) {
-            mListener.onAdLoaded();
-        }
-
-        // Since an inline ad shows when it's loaded, an impression might be assumed to be tracked at the same time.
-        // For simplicity, we simulate an impression callback with no considerations for metrics.
-        final Handler handler = new Handler();
-        handler.postDelayed(new Runnable() {
-            @Override
-            public void run() {
-                if (mListener != null) {
-                    mListener.onAdImpression();
-                }
-            }
-        }, 500);
     }
 
     public void destroy() {
+        mHandler.removeCallbacksAndMessages(null);
+
         if (mInlineAdContainer != null) {
-            mInlineAdContainer.destroy();
+            ReferenceWebViewPool.release(mInlineAdContainer);
             mInlineAdContainer = null;
         }
 
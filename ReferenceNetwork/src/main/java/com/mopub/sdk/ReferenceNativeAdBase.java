@@ -10,14 +10,20 @@ import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
 import android.os.Handler;
+import android.os.Looper;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewConfiguration;
 import android.view.ViewGroup;
 
+import androidx.annotation.Nullable;
+
+import com.mopub.mobileads.referencenetwork.R;
+
 import java.util.Arrays;
 
 import static com.mopub.sdk.ReferenceConstants.CLICKTHROUGH_URL;
+import static com.mopub.sdk.ReferenceSimulation.AdFormat.NATIVE;
 
 /**
  * A simple network SDK implementation that works with the reference adapters to request and show an
@@ -26,12 +32,51 @@ import static com.mopub.sdk.ReferenceConstants.CLICKTHROUGH_URL;
  * INTERNAL USE ONLY. DO NOT REFERENCE OTHERWISE.
  */
 public class ReferenceNativeAdBase extends Activity {
-    private final Context mContext;
-    private final String[] mNativeAdViewIds = {"native_main_image", "native_icon_image", "native_title",
-            "native_text", "native_sponsored_text_view", "native_cta", "native_privacy_information_icon_image"};
+    // Sorted for binary search.
+    private static final int[] NATIVE_AD_VIEW_IDS = {R.id.native_main_image, R.id.native_icon_image,
+            R.id.native_title, R.id.native_text, R.id.native_sponsored_text_view, R.id.native_cta,
+            R.id.native_privacy_information_icon_image};
+
+    static {
+        Arrays.sort(NATIVE_AD_VIEW_IDS);
+    }
 
+    private final Context mContext;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
     private ReferenceNativeAdListener mListener;
 
+    @Nullable
+    private View mAdView;
+
+    // Shared by every bound view so binding allocates nothing.
+    private final View.OnTouchListener mClickTouchListener = new View.OnTouchListener() {
+        long startTime = 0;
+
+        @SuppressLint("ClickableViewAccessibility")
+        @Override
+        public boolean onTouch(View v, MotionEvent event) {
+            if (event.getAction() == MotionEvent.ACTION_DOWN) {
+                startTime = System.currentTimeMillis();
+            }
+
+            if (event.getAction() == MotionEvent.ACTION_UP) {
+                // So that we don't track clicks when swiping on the view
+                if (System.currentTimeMillis() - startTime < ViewConfiguration.getTapTimeout()) {
+                    if (mListener != null) {
+                        mListener.onAdClicked();
+                    }
+
+                    final Intent browserIntent = new Intent(Intent.ACTION_VIEW, Uri.parse(CLICKTHROUGH_URL));
+                    browserIntent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
+
+                    mContext.startActivity(browserIntent);
+                }
+            }
+
+            return true;
+        }
+    };
+
     public ReferenceNativeAdBase(Context context) {
         mContext = context;
     }
@@ -41,7 +86,7 @@ public class ReferenceNativeAdBase extends Activity {
 
         void onAdImpression();
 
-        void onAdFailedToLoad();
+        void onAdFailedToLoad(ReferenceError error);
 
         void onAdClicked();
     }
@@ -50,32 +95,47 @@ public class ReferenceNativeAdBase extends Activity {
         this.mListener = listener;
     }
 
+    /**
+     * Sets the view the ad is rendered into, so impression and click tracking only has to look
+     * at the ad's own views instead of the whole screen.
+     */
+    public void registerAdView(@Nullable View adView) {
+        mAdView = adView;
+    }
+
     public void loadAd() {
-        final Handler handler = new Handler();
-        handler.postDelayed(new Runnable() {
+        final ReferenceSimulation simulation = ReferenceSdk.getSimulation();
+        final long loadLatencyMillis = simulation.nextLoadLatencyMillis(NATIVE);
+        final ReferenceError error = simulation.nextLoadError();
+        final long impressionLatencyMillis = simulation.nextImpressionLatencyMillis(NATIVE);
+
+        mHandler.postDelayed(new Runnable() {
             @Override
             public void run() {
-                if (mListener != null) {
+                if (mListener != null && error != null) {
+                    mListener.onAdFailedToLoad(error);
+                } else if (mListener != null) {
                     mListener.onAdLoaded();
 
-                    final Handler handler = new Handler();
-                    handler.postDelayed(new Runnable() {
+                    mHandler.postDelayed(new Runnable() {
                         @Override
                         public void run() {
-                            if (mContext instanceof Activity) {
+                            if (mAdView instanceof ViewGroup) {
+                                trackImpressionAndClick((ViewGroup) mAdView);
+                            } else if (mContext instanceof Activity) {
                                 final Activity activity = (Activity) mContext;
                                 final ViewGroup vg = activity.getWindow().getDecorView().
                                         findViewById(android.R.id.content);
 
                                 // Assuming the ad is immediately shown, attempt to track impression
-                                // and attach click listeners 1000ms after the native ad has loaded
+                                // and attach click listeners some time after the native ad has loaded
                                 trackImpressionAndClick(vg);
                             }
                         }
-                    }, 1000);
+                    }, impressionLatencyMillis);
                 }
             }
-        }, 500);
+        }, loadLatencyMillis);
     }
 
     public void trackImpressionAndClick(ViewGroup parent) {
@@ -85,46 +145,17 @@ public class ReferenceNativeAdBase extends Activity {
             if (view instanceof ViewGroup) {
                 trackImpressionAndClick((ViewGroup) view);
             } else {
-                if (view.getId() != View.NO_ID) {
-                    String id = view.getResources().getResourceName(view.getId());
-                    id = id.substring(id.indexOf('/') + 1);
-
-                    // A view has an ID matching one of the IDs from the native ad layout
-                    if (Arrays.asList(mNativeAdViewIds).contains(id)) {
-                        if (id.equals("native_main_image") && view.getVisibility() == View.VISIBLE) {
-                            if (mListener != null) {
-                                mListener.onAdImpression();
-                            }
-                        }
-
-                        view.setOnTouchListener(new View.OnTouchListener() {
-                            long startTime = 0;
+                final int id = view.getId();
 
-                            @SuppressLint("ClickableViewAccessibility")
-                            @Override
-                            public boolean onTouch(View v, MotionEvent event) {
-                                if (event.getAction() == MotionEvent.ACTION_DOWN) {
-                                    startTime = System.currentTimeMillis();
-                                }
-
-                                if (event.getAction() == MotionEvent.ACTION_UP) {
-                                    // So that we don't track clicks when swiping on the view
-                                    if (System.currentTimeMillis() - startTime < ViewConfiguration.getTapTimeout()) {
-                                        if (mListener != null) {
-                                            mListener.onAdClicked();
-                                        }
-
-                                        final Intent browserIntent = new Intent(Intent.ACTION_VIEW, Uri.parse(CLICKTHROUGH_URL));
-                                        browserIntent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
-
-                                        mContext.startActivity(browserIntent);
-                                    }
-                                }
-
-                                return true;
-                            }
-                        });
+                // A view has an ID matching one of the IDs from the native ad layout
+                if (id != View.NO_ID && Arrays.binarySearch(NATIVE_AD_VIEW_IDS, id) >= 0) {
+                    if (id == R.id.native_main_image && view.getVisibility() == View.VISIBLE) {
+                        if (mListener != null) {
+                            mListener.onAdImpression();
+                        }
                     }
+
+                    view.setOnTouchListener(mClickTouchListener);
                 }
             }
         }
@@ -163,6 +194,8 @@ public class ReferenceNativeAdBase extends Activity {
     }
 
     public void destroy() {
+        mHandler.removeCallbacksAndMessages(null);
         mListener = null;
+        mAdView = null;
     }
 }
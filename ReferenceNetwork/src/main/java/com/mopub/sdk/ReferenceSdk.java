@@ -4,19 +4,53 @@
 
 package com.mopub.sdk;
 
+import android.content.Context;
 import android.os.Handler;
+import android.os.Looper;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.mopub.common.Preconditions;
+
 /**
  * A simple network SDK implementation that works with the reference adapters.
  * <p>
  * INTERNAL USE ONLY. DO NOT REFERENCE OTHERWISE.
  */
 public class ReferenceSdk {
-    // Simulate a network SDK initialization that does nothing and completes after n milliseconds
-    public static void initialize(@Nullable final ReferenceInitializationListener listener) {
-        final Handler handler = new Handler();
+    @NonNull
+    private static volatile ReferenceSimulation sSimulation = new ReferenceSimulation.Builder().build();
+
+    /**
+     * Replaces how the SDK behaves for all subsequent requests, e.g. to load test the adapters
+     * against slow or poorly filling networks.
+     */
+    public static void setSimulation(@NonNull final ReferenceSimulation simulation) {
+        Preconditions.checkNotNull(simulation);
+        sSimulation = simulation;
+    }
+
+    @NonNull
+    public static ReferenceSimulation getSimulation() {
+        return sSimulation;
+    }
+
+    // Simulate a network SDK initialization that warms up the WebView pool and completes after the
+    // simulated initialization latency
+    public static void initialize(@NonNull final Context context,
+                                  @Nullable final ReferenceInitializationListener listener) {
+        Preconditions.checkNotNull(context);
+
+        final Handler handler = new Handler(Looper.getMainLooper());
+
+        // WebViews may only be created on the main thread
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                ReferenceWebViewPool.prewarm(context);
+            }
+        });
         handler.postDelayed(new Runnable() {
             @Override
             public void run() {
@@ -24,7 +58,7 @@ public class ReferenceSdk {
                     listener.onInitializationFinished();
                 }
             }
-        }, 100);
+        }, sSimulation.nextInitLatencyMillis());
     }
 
     public interface ReferenceInitializationListener {
@@ -0,0 +1,279 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.sdk;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Describes how the simple network SDK behaves: how long initialization, loads and impressions
+ * take, how often a load fills, which errors unfilled loads report and in which order inline
+ * callbacks arrive. Every random decision is drawn from a single generator seeded with
+ * {@link Builder#setSeed(long)}, so the same seed and the same sequence of requests always produce
+ * the same outcomes.
+ * <p>
+ * The default simulation initializes in 100 ms and always fills. Full-screen and inline ads load
+ * right away, native ads in 500 ms. Inline ads track their impression 500 ms after they have
+ * loaded, native ads 1000 ms after.
+ * <p>
+ * Callbacks are delivered through an Android {@link android.os.Handler}, so the simulation runs on
+ * a device or emulator only. No harness is provided for running thousands of load cycles on a plain
+ * JVM.
+ * <p>
+ * INTERNAL USE ONLY. DO NOT REFERENCE OTHERWISE.
+ */
+public class ReferenceSimulation {
+
+    public enum AdFormat {
+        FULL_SCREEN,
+        INLINE,
+        NATIVE
+    }
+
+    public enum LatencyDistribution {
+        // Always the minimum.
+        FIXED,
+        // Evenly spread between the minimum and the maximum.
+        UNIFORM,
+        // The minimum plus an exponentially distributed delay whose mean is half of the range,
+        // capped at the maximum. Produces the long tail real networks tend to have.
+        EXPONENTIAL
+    }
+
+    private static final class Latency {
+        @NonNull
+        final LatencyDistribution distribution;
+        final long minMillis;
+        final long maxMillis;
+
+        Latency(@NonNull final LatencyDistribution distribution, final long minMillis,
+                final long maxMillis) {
+            this.distribution = distribution;
+            this.minMillis = minMillis;
+            this.maxMillis = Math.max(minMillis, maxMillis);
+        }
+    }
+
+    @NonNull
+    private final Random mRandom;
+    @NonNull
+    private final Latency mInitLatency;
+    @NonNull
+    private final Map<AdFormat, Latency> mLoadLatencies;
+    @NonNull
+    private final Map<AdFormat, Latency> mImpressionLatencies;
+    private final double mFillRate;
+    @NonNull
+    private final Map<ReferenceError, Integer> mErrorWeights;
+    private final int mTotalErrorWeight;
+    private final boolean mImpressionBeforeLoad;
+
+    // Guarded by this.
+    private long mLoadCount;
+    private long mFillCount;
+    @NonNull
+    private final Map<ReferenceError, Long> mErrorCounts = new EnumMap<>(ReferenceError.class);
+
+    private ReferenceSimulation(@NonNull final Builder builder) {
+        mRandom = new Random(builder.mSeed);
+        mInitLatency = builder.mInitLatency;
+        mLoadLatencies = new EnumMap<>(builder.mLoadLatencies);
+        mImpressionLatencies = new EnumMap<>(builder.mImpressionLatencies);
+        mFillRate = builder.mFillRate;
+        mErrorWeights = new EnumMap<>(builder.mErrorWeights);
+        mImpressionBeforeLoad = builder.mImpressionBeforeLoad;
+
+        int totalErrorWeight = 0;
+        for (final int weight : mErrorWeights.values()) {
+            totalErrorWeight += weight;
+        }
+        mTotalErrorWeight = totalErrorWeight;
+    }
+
+    synchronized long nextInitLatencyMillis() {
+        return nextLatencyMillis(mInitLatency);
+    }
+
+    synchronized long nextLoadLatencyMillis(@NonNull final AdFormat adFormat) {
+        return nextLatencyMillis(mLoadLatencies.get(adFormat));
+    }
+
+    synchronized long nextImpressionLatencyMillis(@NonNull final AdFormat adFormat) {
+        return nextLatencyMillis(mImpressionLatencies.get(adFormat));
+    }
+
+    /**
+     * Decides the outcome of the next load.
+     *
+     * @return null if the load fills, otherwise the error it should fail with.
+     */
+    @Nullable
+    synchronized ReferenceError nextLoadError() {
+        mLoadCount++;
+
+        if (mRandom.nextDouble() < mFillRate) {
+            mFillCount++;
+            return null;
+        }
+
+        ReferenceError error = ReferenceError.NO_FILL;
+        if (mTotalErrorWeight > 0) {
+            int pick = mRandom.nextInt(mTotalErrorWeight);
+            for (final Map.Entry<ReferenceError, Integer> entry : mErrorWeights.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    error = entry.getKey();
+                    break;
+                }
+            }
+        }
+
+        final Long count = mErrorCounts.get(error);
+        mErrorCounts.put(error, count == null ? 1 : count + 1);
+        return error;
+    }
+
+    boolean isImpressionBeforeLoad() {
+        return mImpressionBeforeLoad;
+    }
+
+    public synchronized long getLoadCount() {
+        return mLoadCount;
+    }
+
+    public synchronized long getFillCount() {
+        return mFillCount;
+    }
+
+    public synchronized long getErrorCount(@NonNull final ReferenceError error) {
+        final Long count = mErrorCounts.get(error);
+        return count == null ? 0 : count;
+    }
+
+    // Must hold this.
+    private long nextLatencyMillis(@NonNull final Latency latency) {
+        final long range = latency.maxMillis - latency.minMillis;
+
+        switch (latency.distribution) {
+            case UNIFORM:
+                return latency.minMillis + (long) (mRandom.nextDouble() * (range + 1));
+            case EXPONENTIAL:
+                final double mean = range / 2.0;
+                final double delay = -mean * Math.log(1 - mRandom.nextDouble());
+                return latency.minMillis + Math.min(range, (long) delay);
+            case FIXED:
+            default:
+                return latency.minMillis;
+        }
+    }
+
+    public static class Builder {
+        private long mSeed;
+        @NonNull
+        private Latency mInitLatency = new Latency(LatencyDistribution.FIXED, 100, 100);
+        @NonNull
+        private final Map<AdFormat, Latency> mLoadLatencies = new EnumMap<>(AdFormat.class);
+        @NonNull
+        private final Map<AdFormat, Latency> mImpressionLatencies = new EnumMap<>(AdFormat.class);
+        private double mFillRate = 1;
+        @NonNull
+        private final Map<ReferenceError, Integer> mErrorWeights = new EnumMap<>(ReferenceError.class);
+        private boolean mImpressionBeforeLoad;
+
+        public Builder() {
+            mLoadLatencies.put(AdFormat.FULL_SCREEN, new Latency(LatencyDistribution.FIXED, 0, 0));
+            mLoadLatencies.put(AdFormat.INLINE, new Latency(LatencyDistribution.FIXED, 0, 0));
+            mLoadLatencies.put(AdFormat.NATIVE, new Latency(LatencyDistribution.FIXED, 500, 500));
+
+            // Full-screen ads track their impression when they are shown.
+            mImpressionLatencies.put(AdFormat.FULL_SCREEN, new Latency(LatencyDistribution.FIXED, 0, 0));
+            mImpressionLatencies.put(AdFormat.INLINE, new Latency(LatencyDistribution.FIXED, 500, 500));
+            mImpressionLatencies.put(AdFormat.NATIVE, new Latency(LatencyDistribution.FIXED, 1000, 1000));
+        }
+
+        @NonNull
+        public Builder setSeed(final long seed) {
+            mSeed = seed;
+            return this;
+        }
+
+        @NonNull
+        public Builder setInitLatency(@NonNull final LatencyDistribution distribution,
+                                      final long minMillis, final long maxMillis) {
+            Preconditions.checkNotNull(distribution);
+            mInitLatency = new Latency(distribution, minMillis, maxMillis);
+            return this;
+        }
+
+        @NonNull
+        public Builder setLoadLatency(@NonNull final AdFormat adFormat,
+                                      @NonNull final LatencyDistribution distribution,
+                                      final long minMillis, final long maxMillis) {
+            Preconditions.checkNotNull(adFormat);
+            Preconditions.checkNotNull(distribution);
+            mLoadLatencies.put(adFormat, new Latency(distribution, minMillis, maxMillis));
+            return this;
+        }
+
+        /**
+         * Sets how long after an inline or native ad loads its impression is tracked.
+         */
+        @NonNull
+        public Builder setImpressionLatency(@NonNull final AdFormat adFormat,
+                                            @NonNull final LatencyDistribution distribution,
+                                            final long minMillis, final long maxMillis) {
+            Preconditions.checkNotNull(adFormat);
+            Preconditions.checkNotNull(distribution);
+            mImpressionLatencies.put(adFormat, new Latency(distribution, minMillis, maxMillis));
+            return this;
+        }
+
+        /**
+         * Sets the share of loads that fill, between 0 and 1.
+         */
+        @NonNull
+        public Builder setFillRate(final double fillRate) {
+            mFillRate = Math.max(0, Math.min(1, fillRate));
+            return this;
+        }
+
+        /**
+         * Makes unfilled loads report the error with the given relative weight. Without any
+         * weights, every unfilled load reports {@link ReferenceError#NO_FILL}.
+         */
+        @NonNull
+        public Builder setErrorWeight(@NonNull final ReferenceError error, final int weight) {
+            Preconditions.checkNotNull(error);
+
+            if (weight > 0) {
+                mErrorWeights.put(error, weight);
+            } else {
+                mErrorWeights.remove(error);
+            }
+            return this;
+        }
+
+        /**
+         * Delivers the impression callback of inline ads before the loaded callback, as some
+         * networks do.
+         */
+        @NonNull
+        public Builder setImpressionBeforeLoad(final boolean impressionBeforeLoad) {
+            mImpressionBeforeLoad = impressionBeforeLoad;
+            return this;
+        }
+
+        @NonNull
+        public ReferenceSimulation build() {
+            return new ReferenceSimulation(this);
+        }
+    }
+}
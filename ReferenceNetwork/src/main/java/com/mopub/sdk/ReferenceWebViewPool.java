@@ -0,0 +1,156 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// https://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.sdk;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.content.res.Configuration;
+import android.view.ViewGroup;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+
+import java.util.ArrayDeque;
+
+/**
+ * A small pool of WebViews shared by the ads of the simple network SDK. Constructing a WebView is
+ * expensive, especially the first one in a process, so containers are created ahead of time and
+ * reused across ads.
+ * <p>
+ * Pooled WebViews are created on a {@link MutableContextWrapper} around the application context.
+ * While an ad holds one, its base context is swapped to the ad's context, and it is swapped back on
+ * release so the pool never keeps an Activity alive. The pool shrinks when the system starts
+ * running low on memory and is emptied when memory gets tight.
+ * <p>
+ * Must only be used on the main thread.
+ * <p>
+ * INTERNAL USE ONLY. DO NOT REFERENCE OTHERWISE.
+ */
+public class ReferenceWebViewPool {
+    private static final int MAX_POOL_SIZE = 2;
+    private static final String BLANK_URL = "about:blank";
+
+    private static final ArrayDeque<WebView> sWebViews = new ArrayDeque<>(MAX_POOL_SIZE);
+
+    @Nullable
+    private static Context sApplicationContext;
+
+    private static final ComponentCallbacks2 sMemoryCallbacks = new ComponentCallbacks2() {
+        @Override
+        public void onTrimMemory(int level) {
+            if (level >= TRIM_MEMORY_RUNNING_LOW) {
+                trimTo(0);
+            } else if (level >= TRIM_MEMORY_RUNNING_MODERATE) {
+                trimTo(1);
+            }
+        }
+
+        @Override
+        public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        }
+
+        @Override
+        public void onLowMemory() {
+            trimTo(0);
+        }
+    };
+
+    // A default client that also forgets the previous ad once the blank page has replaced it.
+    // History cleared any earlier would still hold the page that was loading.
+    private static final WebViewClient sPooledWebViewClient = new WebViewClient() {
+        @Override
+        public void onPageFinished(WebView view, String url) {
+            if (BLANK_URL.equals(url)) {
+                view.clearHistory();
+            }
+        }
+    };
+
+    private ReferenceWebViewPool() {
+    }
+
+    /**
+     * Fills the pool so the first ads do not pay for WebView construction.
+     */
+    public static void prewarm(@NonNull final Context context) {
+        Preconditions.checkNotNull(context);
+
+        registerMemoryCallbacks(context);
+
+        while (sWebViews.size() < MAX_POOL_SIZE) {
+            sWebViews.offerLast(createWebView());
+        }
+    }
+
+    /**
+     * @return a pooled WebView bound to the given context, or a new one if the pool is empty.
+     */
+    @NonNull
+    public static WebView acquire(@NonNull final Context context) {
+        Preconditions.checkNotNull(context);
+
+        registerMemoryCallbacks(context);
+
+        WebView webView = sWebViews.pollFirst();
+        if (webView == null) {
+            webView = createWebView();
+        }
+
+        ((MutableContextWrapper) webView.getContext()).setBaseContext(context);
+        return webView;
+    }
+
+    /**
+     * Resets the WebView and returns it to the pool. It is destroyed instead if the pool is full.
+     */
+    public static void release(@NonNull final WebView webView) {
+        Preconditions.checkNotNull(webView);
+
+        if (webView.getParent() instanceof ViewGroup) {
+            ((ViewGroup) webView.getParent()).removeView(webView);
+        }
+
+        if (sWebViews.size() >= MAX_POOL_SIZE || sApplicationContext == null
+                || !(webView.getContext() instanceof MutableContextWrapper)) {
+            webView.destroy();
+            return;
+        }
+
+        webView.stopLoading();
+        webView.setOnTouchListener(null);
+        webView.setWebChromeClient(null);
+        webView.setWebViewClient(sPooledWebViewClient);
+        webView.getSettings().setJavaScriptEnabled(false);
+        webView.loadUrl(BLANK_URL);
+        ((MutableContextWrapper) webView.getContext()).setBaseContext(sApplicationContext);
+
+        sWebViews.offerLast(webView);
+    }
+
+    private static void trimTo(final int maxSize) {
+        while (sWebViews.size() > maxSize) {
+            sWebViews.pollFirst().destroy();
+        }
+    }
+
+    private static void registerMemoryCallbacks(@NonNull final Context context) {
+        if (sApplicationContext == null) {
+            sApplicationContext = context.getApplicationContext();
+            sApplicationContext.registerComponentCallbacks(sMemoryCallbacks);
+        }
+    }
+
+    @NonNull
+    private static WebView createWebView() {
+        final WebView webView = new WebView(new MutableContextWrapper(sApplicationContext));
+        webView.setWebViewClient(sPooledWebViewClient);
+        return webView;
+    }
+}
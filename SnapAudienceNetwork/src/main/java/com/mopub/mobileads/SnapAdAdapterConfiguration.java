@@ -1,6 +1,10 @@
 package com.mopub.mobileads;
 
 import android.content.Context;
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
@@ -19,6 +23,7 @@ import com.snap.adkit.external.SnapAdInitSucceeded;
 import com.snap.adkit.external.SnapAdKitEvent;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -34,8 +39,18 @@ public class SnapAdAdapterConfiguration extends BaseAdapterConfiguration {
     private static final String TEST_MODE_KEY = "enableTestMode";
     private static final String RXJAVA_ERROR_HANDLE_OPT_OUT_KEY = "optOutRxJavaErrorHandling";
     private static final String MOPUB_NETWORK_NAME = BuildConfig.NETWORK_NAME;
+    private static final long TOKEN_REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final long TOKEN_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
     private final AtomicReference<String> tokenReference = new AtomicReference((Object) null);
     private final AtomicBoolean isComputingToken = new AtomicBoolean(false);
+    private volatile long tokenTimestamp;
+    private final Handler tokenRefreshHandler = new Handler(Looper.getMainLooper());
+    private final Runnable tokenRefreshRunnable = new Runnable() {
+        @Override
+        public void run() {
+            refreshBidderToken();
+        }
+    };
 
     @NonNull
     @Override
@@ -46,8 +61,10 @@ public class SnapAdAdapterConfiguration extends BaseAdapterConfiguration {
     @Nullable
     @Override
     public String getBiddingToken(@NonNull Context context) {
+        // The last good token is handed out while a newer one is being fetched, until it expires.
         this.refreshBidderToken();
-        return tokenReference.get();
+        return SystemClock.elapsedRealtime() - tokenTimestamp < TOKEN_TTL_MILLIS
+                ? tokenReference.get() : null;
     }
 
     @NonNull
@@ -95,7 +112,7 @@ public class SnapAdAdapterConfiguration extends BaseAdapterConfiguration {
                         @Override
                         public void onEvent(SnapAdKitEvent snapAdKitEvent, String slotId) {
                             if (snapAdKitEvent instanceof SnapAdInitSucceeded) {
-                                tokenReference.set(AdKitAudienceAdsNetwork.getAdsNetwork().requestBidToken());
+                                refreshBidderToken();
                             }
                         }
                     };
@@ -139,17 +156,33 @@ public class SnapAdAdapterConfiguration extends BaseAdapterConfiguration {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "Refresh token is not available");
             return;
         }
-        if (this.isComputingToken.compareAndSet(false, true)) {
-            (new Thread(new Runnable() {
+        if (tokenReference.get() != null &&
+                SystemClock.elapsedRealtime() - tokenTimestamp < TOKEN_REFRESH_INTERVAL_MILLIS) {
+            return;
+        }
+        if (isComputingToken.compareAndSet(false, true)) {
+            AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
+                @Override
                 public void run() {
-                    final String token = AdKitAudienceAdsNetwork.getAdsNetwork().requestBidToken();
-                    if (token != null) {
-                        SnapAdAdapterConfiguration.this.tokenReference.set(token);
+                    try {
+                        final AudienceNetworkAdsApi adsNetwork = AdKitAudienceAdsNetwork.getAdsNetwork();
+                        setBidderToken(adsNetwork != null ? adsNetwork.requestBidToken() : null);
+                    } finally {
+                        isComputingToken.set(false);
                     }
-
-                    SnapAdAdapterConfiguration.this.isComputingToken.set(false);
+                    // Refresh again before this token expires, even if no auction asks for it.
+                    tokenRefreshHandler.removeCallbacks(tokenRefreshRunnable);
+                    tokenRefreshHandler.postDelayed(tokenRefreshRunnable,
+                            TOKEN_TTL_MILLIS - TOKEN_REFRESH_INTERVAL_MILLIS);
                 }
-            })).start();
+            });
+        }
+    }
+
+    private void setBidderToken(@Nullable final String token) {
+        if (token != null) {
+            tokenReference.set(token);
+            tokenTimestamp = SystemClock.elapsedRealtime();
         }
     }
 }
@@ -11,7 +11,6 @@ import com.mopub.common.OnNetworkInitializationFinishedListener;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
 import com.mopub.mobileads.tapjoy.BuildConfig;
-import com.tapjoy.TJConnectListener;
 import com.tapjoy.TJError;
 import com.tapjoy.Tapjoy;
 
@@ -62,10 +61,13 @@ public class TapjoyAdapterConfiguration extends BaseAdapterConfiguration {
     }
 
     @Override
-    public void initializeNetwork(@NonNull final Context context, @Nullable final Map<String, String> configuration, @NonNull final OnNetworkInitializationFinishedListener listener) {
+    public void initializeNetwork(@NonNull final Context context, @Nullable final Map<String, String> configuration, @NonNull final OnNetworkInitializationFinishedListener initializationFinishedListener) {
 
         Preconditions.checkNotNull(context);
-        Preconditions.checkNotNull(listener);
+        Preconditions.checkNotNull(initializationFinishedListener);
+
+        final OnNetworkInitializationFinishedListener listener =
+                new TapjoyInitializationTimer(initializationFinishedListener);
 
         boolean networkInitializationSucceeded = false;
 
@@ -77,15 +79,16 @@ public class TapjoyAdapterConfiguration extends BaseAdapterConfiguration {
                     final String sdkKey = configuration.get(SDK_KEY);
 
                     if (!TextUtils.isEmpty(sdkKey)) {
-                        Tapjoy.connect(context, sdkKey, null, new TJConnectListener() {
+                        TapjoySessionManager.getInstance().connect(context, sdkKey, null,
+                                new TapjoySessionManager.ConnectListener() {
                             @Override
-                            public void onConnectSuccess() {
+                            public void onConnected() {
                             	listener.onNetworkInitializationFinished(TapjoyAdapterConfiguration.class,
                                         MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
                             }
 
                             @Override
-                            public void onConnectFailure() {
+                            public void onConnectFailed(@NonNull MoPubErrorCode errorCode) {
                                 listener.onNetworkInitializationFinished(TapjoyAdapterConfiguration.class,
                                         MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
                                 MoPubLog.log(sdkKey, CUSTOM, "Initializing Tapjoy has encountered a problem.");
@@ -0,0 +1,153 @@
+package com.mopub.mobileads;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.util.Json;
+
+import org.json.JSONException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Parses the auction data in Tapjoy bid markup off the main thread. Ads start parsing their markup
+ * as soon as they receive it, while they may still be waiting for Tapjoy to connect, so by the time
+ * they request their placement the result is usually ready.
+ * <p>
+ * Each markup is parsed once, however many times it is requested, and its result is handed out
+ * once: bid markup is not reused across loads, so nothing outlives the load it was parsed for.
+ * Must be called on the main thread; listeners are notified on the main thread.
+ */
+final class TapjoyAuctionData {
+    private static final String ADAPTER_NAME = TapjoyAuctionData.class.getSimpleName();
+
+    // A few loads may be in flight at once; anything older was abandoned.
+    private static final int MAX_PARSED_MARKUPS = 8;
+
+    interface Listener {
+        void onParsed(@NonNull HashMap<String, String> auctionData);
+
+        void onParseFailed();
+    }
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+    private static final ExecutorService sExecutor = Executors.newSingleThreadExecutor();
+
+    // Markup -> parsed auction data, or null if the markup is malformed. Only accessed on the main
+    // thread, in insertion order so the oldest entry is evicted first.
+    private static final Map<String, HashMap<String, String>> sParsed =
+            new LinkedHashMap<String, HashMap<String, String>>() {
+                @Override
+                protected boolean removeEldestEntry(Entry<String, HashMap<String, String>> eldest) {
+                    return size() > MAX_PARSED_MARKUPS;
+                }
+            };
+    // Only accessed on the main thread.
+    private static final Map<String, List<Listener>> sInFlight = new HashMap<>();
+
+    private TapjoyAuctionData() {
+    }
+
+    /**
+     * Starts parsing the markup in the background, unless it already is parsed or being parsed.
+     */
+    static void prefetch(@Nullable final String adMarkup) {
+        if (TextUtils.isEmpty(adMarkup) || sParsed.containsKey(adMarkup)
+                || sInFlight.containsKey(adMarkup)) {
+            return;
+        }
+
+        sInFlight.put(adMarkup, new ArrayList<Listener>(1));
+        sExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final HashMap<String, String> auctionData = parse(adMarkup);
+                sMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onParseFinished(adMarkup, auctionData);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Hands the parsed auction data of the markup to the listener, right away if it is ready, or
+     * once it is otherwise.
+     */
+    static void get(@NonNull final String adMarkup, @NonNull final Listener listener) {
+        Preconditions.checkNotNull(adMarkup);
+        Preconditions.checkNotNull(listener);
+
+        if (sParsed.containsKey(adMarkup)) {
+            notifyListener(listener, sParsed.remove(adMarkup));
+            return;
+        }
+
+        prefetch(adMarkup);
+        sInFlight.get(adMarkup).add(listener);
+    }
+
+    /**
+     * Stops the listener from hearing about a parse it is still waiting for. The result is kept
+     * for whichever load asks for the same markup next.
+     */
+    static void cancel(@NonNull final Listener listener) {
+        Preconditions.checkNotNull(listener);
+
+        for (final List<Listener> listeners : sInFlight.values()) {
+            listeners.remove(listener);
+        }
+    }
+
+    private static void onParseFinished(@NonNull final String adMarkup,
+                                        @Nullable final HashMap<String, String> auctionData) {
+        final List<Listener> listeners = sInFlight.remove(adMarkup);
+        if (listeners == null || listeners.isEmpty()) {
+            // Nobody has asked for it yet; keep it for the load that will.
+            sParsed.put(adMarkup, auctionData);
+            return;
+        }
+
+        for (final Listener listener : listeners) {
+            // Every listener gets its own copy, as Tapjoy keeps the map it is given.
+            notifyListener(listener, auctionData == null || listeners.size() == 1
+                    ? auctionData : new HashMap<>(auctionData));
+        }
+    }
+
+    private static void notifyListener(@NonNull final Listener listener,
+                                       @Nullable final HashMap<String, String> auctionData) {
+        if (auctionData != null) {
+            listener.onParsed(auctionData);
+        } else {
+            listener.onParseFailed();
+        }
+    }
+
+    @Nullable
+    private static HashMap<String, String> parse(@NonNull final String adMarkup) {
+        try {
+            // Tapjoy only takes a HashMap, so the copy is made here rather than on the main thread.
+            return new HashMap<>(Json.jsonStringToMap(adMarkup));
+        } catch (JSONException e) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, "Unable to parse auction data.");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.mopub.mobileads;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.MoPub;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.privacy.ConsentStatus;
+import com.mopub.common.privacy.ConsentStatusChangeListener;
+import com.mopub.common.privacy.PersonalInfoManager;
+import com.tapjoy.Tapjoy;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/** Passes the user consent from the MoPub SDK to Tapjoy as per GDPR, only when it changes. */
+final class TapjoyConsentTracker {
+    private static final String ADAPTER_NAME = TapjoyConsentTracker.class.getSimpleName();
+
+    private static volatile boolean sIsSettled;
+
+    // Guarded by TapjoyConsentTracker.class.
+    private static boolean sIsListening;
+    @Nullable
+    private static Boolean sSubjectToGdpr;
+    @Nullable
+    private static String sUserConsent;
+
+    private static final ConsentStatusChangeListener sConsentStatusChangeListener =
+            new ConsentStatusChangeListener() {
+                @Override
+                public void onConsentStateChange(@NonNull ConsentStatus oldConsentStatus,
+                                                 @NonNull ConsentStatus newConsentStatus,
+                                                 boolean canCollectPersonalInformation) {
+                    synchronized (TapjoyConsentTracker.class) {
+                        final PersonalInfoManager personalInfoManager =
+                                MoPub.getPersonalInformationManager();
+                        if (personalInfoManager != null) {
+                            pushIfChanged(personalInfoManager.gdprApplies(),
+                                    canCollectPersonalInformation);
+                        }
+                    }
+                }
+            };
+
+    private TapjoyConsentTracker() {
+    }
+
+    /**
+     * Makes sure Tapjoy has the current user consent.
+     */
+    static void update() {
+        if (sIsSettled) {
+            return;
+        }
+
+        synchronized (TapjoyConsentTracker.class) {
+            final PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
+            if (personalInfoManager == null) {
+                return;
+            }
+
+            if (!sIsListening) {
+                personalInfoManager.subscribeConsentStatusChangeListener(sConsentStatusChangeListener);
+                sIsListening = true;
+            }
+
+            final Boolean gdprApplies = personalInfoManager.gdprApplies();
+            pushIfChanged(gdprApplies, MoPub.canCollectPersonalInformation());
+
+            // Whether GDPR applies isn't reported as a consent change, so keep checking on every
+            // load until the MoPub SDK knows.
+            sIsSettled = gdprApplies != null;
+        }
+    }
+
+    // Must hold TapjoyConsentTracker.class.
+    private static void pushIfChanged(@Nullable final Boolean gdprApplies,
+                                      final boolean canCollectPersonalInformation) {
+        if (gdprApplies == null) {
+            return;
+        }
+
+        final String userConsent = gdprApplies ? (canCollectPersonalInformation ? "1" : "0") : "-1";
+        if (gdprApplies.equals(sSubjectToGdpr) && TextUtils.equals(userConsent, sUserConsent)) {
+            return;
+        }
+
+        Tapjoy.getPrivacyPolicy().setSubjectToGDPR(gdprApplies);
+        Tapjoy.getPrivacyPolicy().setUserConsent(userConsent);
+        sSubjectToGdpr = gdprApplies;
+        sUserConsent = userConsent;
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Passed user consent to Tapjoy: subject to GDPR " +
+                gdprApplies + ", consent " + userConsent);
+    }
+}
@@ -18,20 +18,13 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.mopub.common.LifecycleListener;
-import com.mopub.common.MoPub;
 import com.mopub.common.logging.MoPubLog;
-import com.mopub.common.privacy.PersonalInfoManager;
-import com.mopub.common.util.Json;
 import com.tapjoy.TJActionRequest;
-import com.tapjoy.TJConnectListener;
 import com.tapjoy.TJError;
 import com.tapjoy.TJPlacement;
 import com.tapjoy.TJPlacementListener;
-import com.tapjoy.TJPrivacyPolicy;
 import com.tapjoy.Tapjoy;
 
-import org.json.JSONException;
-
 import java.util.HashMap;
 import java.util.Map;
 
@@ -56,13 +49,16 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
     public static final String ADAPTER_NAME = TapjoyInterstitial.class.getSimpleName();
     private static final String AD_MARKUP_KEY = "adm";
     private String mPlacementName;
-    private static TJPrivacyPolicy tjPrivacyPolicy;
 
     @NonNull
     private TapjoyAdapterConfiguration mTapjoyAdapterConfiguration;
 
     private TJPlacement tjPlacement;
     private Handler mHandler;
+    @Nullable
+    private TapjoySessionManager.ConnectListener mConnectListener;
+    @Nullable
+    private TapjoyAuctionData.Listener mAuctionDataListener;
 
     static {
         MoPubLog.log(CUSTOM, "Class initialized with network adapter version ", TJC_MOPUB_ADAPTER_VERSION_NUMBER);
@@ -70,7 +66,6 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
 
     public TapjoyInterstitial() {
         mTapjoyAdapterConfiguration = new TapjoyAdapterConfiguration();
-        tjPrivacyPolicy = Tapjoy.getPrivacyPolicy();
     }
 
     @Override
@@ -78,7 +73,7 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
 
         mHandler = new Handler(Looper.getMainLooper());
 
-        fetchMoPubGDPRSettings();
+        TapjoyConsentTracker.update();
 
         final Map<String, String> extras = adData.getExtras();
         mPlacementName = extras.get(PLACEMENT_NAME);
@@ -88,6 +83,8 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
         }
 
         final String adMarkup = extras.get(AD_MARKUP_KEY);
+        // Start parsing the bid while Tapjoy connects.
+        TapjoyAuctionData.prefetch(adMarkup);
 
         boolean canRequestPlacement = true;
         if (!Tapjoy.isConnected()) {
@@ -99,20 +96,26 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
             String sdkKey = extras.get(SDK_KEY);
             if (!TextUtils.isEmpty(sdkKey)) {
                 MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Connecting to Tapjoy via MoPub dashboard settings...");
-                Tapjoy.connect(context, sdkKey, null, new TJConnectListener() {
+                mConnectListener = new TapjoySessionManager.ConnectListener() {
                     @Override
-                    public void onConnectSuccess() {
-                        MoPubLog.log(mPlacementName, CUSTOM, "Tapjoy connected successfully");
+                    public void onConnected() {
+                        mConnectListener = null;
                         mTapjoyAdapterConfiguration.setCachedInitializationParameters(context, extras);
                         MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Tapjoy connected successfully");
                         createPlacement(context, mPlacementName, adMarkup);
                     }
 
                     @Override
-                    public void onConnectFailure() {
+                    public void onConnectFailed(@NonNull MoPubErrorCode errorCode) {
+                        mConnectListener = null;
                         MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Tapjoy connect failed");
+                        if (mLoadListener != null) {
+                            mLoadListener.onAdLoadFailed(errorCode);
+                        }
+                        MoPubLog.log(mPlacementName, LOAD_FAILED, ADAPTER_NAME, errorCode.getIntCode(), errorCode);
                     }
-                });
+                };
+                TapjoySessionManager.getInstance().connect(context, sdkKey, null, mConnectListener);
 
                 // If sdkKey is present via MoPub dashboard, we only want to request placement
                 // after auto-connect succeeds
@@ -127,49 +130,59 @@ public class TapjoyInterstitial extends BaseAd implements TJPlacementListener {
         }
     }
 
-    private void createPlacement(Context context, String placementName, final String adMarkup) {
+    private void createPlacement(final Context context, final String placementName, final String adMarkup) {
+        if (TextUtils.isEmpty(adMarkup)) {
+            requestPlacement(context, placementName, null);
+            return;
+        }
+
+        mAuctionDataListener = new TapjoyAuctionData.Listener() {
+            @Override
+            public void onParsed(@NonNull HashMap<String, String> auctionData) {
+                mAuctionDataListener = null;
+                requestPlacement(context, placementName, auctionData);
+            }
+
+            @Override
+            public void onParseFailed() {
+                mAuctionDataListener = null;
+                // The bid can't be honored without its auction data, so don't request an ad that
+                // would be served without it.
+                if (mLoadListener != null) {
+                    mLoadListener.onAdLoadFailed(MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
+                }
+                MoPubLog.log(placementName, LOAD_FAILED, ADAPTER_NAME,
+                        MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR.getIntCode(),
+                        MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
+            }
+        };
+        TapjoyAuctionData.get(adMarkup, mAuctionDataListener);
+    }
+
+    private void requestPlacement(Context context, String placementName,
+                                  @Nullable HashMap<String, String> auctionData) {
         tjPlacement = new TJPlacement(context, placementName, this);
         tjPlacement.setMediationName(TJC_MOPUB_NETWORK_CONSTANT);
         tjPlacement.setAdapterVersion(TJC_MOPUB_ADAPTER_VERSION_NUMBER);
 
-        if (!TextUtils.isEmpty(adMarkup)) {
-            try {
-                Map<String, String> auctionData = Json.jsonStringToMap(adMarkup);
-                tjPlacement.setAuctionData(new HashMap<>(auctionData));
-            } catch (JSONException e) {
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Unable to parse auction data.");
-            }
+        if (auctionData != null) {
+            tjPlacement.setAuctionData(auctionData);
         }
 
         tjPlacement.requestContent();
         MoPubLog.log(placementName, LOAD_ATTEMPTED, ADAPTER_NAME);
     }
 
-    // Pass the user consent from the MoPub SDK to Tapjoy as per GDPR
-    private void fetchMoPubGDPRSettings() {
-
-        PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
-
-        if (personalInfoManager != null) {
-            Boolean gdprApplies = personalInfoManager.gdprApplies();
-
-            if (gdprApplies != null) {
-                tjPrivacyPolicy.setSubjectToGDPR(gdprApplies);
-
-                if (gdprApplies) {
-                    String userConsented = MoPub.canCollectPersonalInformation() ? "1" : "0";
-
-                    tjPrivacyPolicy.setUserConsent(userConsented);
-                } else {
-                    tjPrivacyPolicy.setUserConsent("-1");
-                }
-            }
-        }
-    }
-
     @Override
     protected void onInvalidate() {
-        // No custom cleanup to do here.
+        if (mConnectListener != null) {
+            TapjoySessionManager.getInstance().cancel(mConnectListener);
+            mConnectListener = null;
+        }
+        if (mAuctionDataListener != null) {
+            TapjoyAuctionData.cancel(mAuctionDataListener);
+            mAuctionDataListener = null;
+        }
     }
 
     @Nullable
@@ -9,21 +9,14 @@ import androidx.annotation.Nullable;
 
 import com.mopub.common.LifecycleListener;
 import com.mopub.common.MediationSettings;
-import com.mopub.common.MoPub;
 import com.mopub.common.MoPubReward;
 import com.mopub.common.logging.MoPubLog;
-import com.mopub.common.privacy.PersonalInfoManager;
-import com.mopub.common.util.Json;
 import com.tapjoy.TJActionRequest;
-import com.tapjoy.TJConnectListener;
 import com.tapjoy.TJError;
 import com.tapjoy.TJPlacement;
 import com.tapjoy.TJPlacementListener;
 import com.tapjoy.TJPlacementVideoListener;
 import com.tapjoy.Tapjoy;
-import com.tapjoy.TJPrivacyPolicy;
-
-import org.json.JSONException;
 
 import java.util.HashMap;
 import java.util.Hashtable;
@@ -57,7 +50,10 @@ public class TapjoyRewardedVideo extends BaseAd {
     private boolean isAutoConnect = false;
     private String mPlacementName;
     private TapjoyRewardedVideoListener mTapjoyListener = new TapjoyRewardedVideoListener();
-    private static TJPrivacyPolicy tjPrivacyPolicy;
+    @Nullable
+    private TapjoySessionManager.ConnectListener mConnectListener;
+    @Nullable
+    private TapjoyAuctionData.Listener mAuctionDataListener;
 	
     @NonNull
     private TapjoyAdapterConfiguration mTapjoyAdapterConfiguration;
@@ -80,11 +76,18 @@ public class TapjoyRewardedVideo extends BaseAd {
 
     @Override
     protected void onInvalidate() {
+        if (mConnectListener != null) {
+            TapjoySessionManager.getInstance().cancel(mConnectListener);
+            mConnectListener = null;
+        }
+        if (mAuctionDataListener != null) {
+            TapjoyAuctionData.cancel(mAuctionDataListener);
+            mAuctionDataListener = null;
+        }
     }
 
     public TapjoyRewardedVideo() {
         mTapjoyAdapterConfiguration = new TapjoyAdapterConfiguration();
-        tjPrivacyPolicy = Tapjoy.getPrivacyPolicy();
     }
 
     @Override
@@ -102,7 +105,9 @@ public class TapjoyRewardedVideo extends BaseAd {
             throw new IllegalStateException("Tapjoy failed to load. No Placement name.");
         }
 
-        final String adMarkup = extras.get(AD_MARKUP_KEY);
+        // Start parsing the bid while Tapjoy connects.
+        TapjoyAuctionData.prefetch(extras.get(AD_MARKUP_KEY));
+
         if (!Tapjoy.isConnected()) {
             setupWithMediationSetting();
 
@@ -113,9 +118,7 @@ public class TapjoyRewardedVideo extends BaseAd {
 
             sdkKey = extras.get(SDK_KEY);
             if (!TextUtils.isEmpty(sdkKey)) {
-                MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Connecting to Tapjoy via MoPub dashboard settings...");
-                connectToTapjoy(launcherActivity, adMarkup);
-
+                // The placement is requested from load() once the connect finishes.
                 isAutoConnect = true;
                 return true;
             } else {
@@ -128,56 +131,91 @@ public class TapjoyRewardedVideo extends BaseAd {
 
     @Override
     protected void load(@NonNull final Context context, @NonNull final AdData adData) {
-        fetchMoPubGDPRSettings();
+        TapjoyConsentTracker.update();
         setAutomaticImpressionAndClickTracking(false);
         final String adMarkup = adData.getExtras().get(AD_MARKUP_KEY);
+        TapjoyAuctionData.prefetch(adMarkup);
+
+        if (isAutoConnect && !Tapjoy.isConnected()) {
+            // The adapter is making the Tapjoy.connect() call on behalf of the pub, so wait for
+            // it to succeed before making a placement request.
+            MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Connecting to Tapjoy via MoPub dashboard settings...");
+            mConnectListener = createConnectListener((Activity) context, adMarkup);
+            TapjoySessionManager.getInstance().connect(context, sdkKey, connectFlags, mConnectListener);
+            return;
+        }
+
         createPlacement((Activity) context, adMarkup);
     }
 
-    private void connectToTapjoy(final Activity launcherActivity, final String adMarkup) {
-        Tapjoy.connect(launcherActivity, sdkKey, connectFlags, new TJConnectListener() {
+    private TapjoySessionManager.ConnectListener createConnectListener(final Activity activity,
+                                                                       final String adMarkup) {
+        return new TapjoySessionManager.ConnectListener() {
             @Override
-            public void onConnectSuccess() {
+            public void onConnected() {
                 MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Tapjoy connected successfully");
-                createPlacement(launcherActivity, adMarkup);
+                mConnectListener = null;
+                createPlacement(activity, adMarkup);
             }
 
             @Override
-            public void onConnectFailure() {
+            public void onConnectFailed(@NonNull MoPubErrorCode errorCode) {
                 MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Tapjoy connect failed");
+                mConnectListener = null;
+                if (mLoadListener != null) {
+                    mLoadListener.onAdLoadFailed(errorCode);
+                }
+                MoPubLog.log(mPlacementName, LOAD_FAILED, ADAPTER_NAME, errorCode.getIntCode(), errorCode);
             }
-        });
+        };
     }
 
-    private void createPlacement(Activity activity, final String adm) {
+    private void createPlacement(final Activity activity, final String adm) {
         if (!TextUtils.isEmpty(mPlacementName)) {
-            if (isAutoConnect && !Tapjoy.isConnected()) {
-                // If adapter is making the Tapjoy.connect() call on behalf of the pub, wait for it to
-                // succeed before making a placement request.
-                MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Tapjoy is still connecting. Please wait for this to finish before making a placement request");
+            if (TextUtils.isEmpty(adm)) {
+                requestPlacement(activity, null);
                 return;
             }
 
-            tjPlacement = new TJPlacement(activity, mPlacementName, mTapjoyListener);
-            tjPlacement.setMediationName(TJC_MOPUB_NETWORK_CONSTANT);
-            tjPlacement.setAdapterVersion(TJC_MOPUB_ADAPTER_VERSION_NUMBER);
+            mAuctionDataListener = new TapjoyAuctionData.Listener() {
+                @Override
+                public void onParsed(@NonNull HashMap<String, String> auctionData) {
+                    mAuctionDataListener = null;
+                    requestPlacement(activity, auctionData);
+                }
 
-            if (!TextUtils.isEmpty(adm)) {
-                try {
-                    Map<String, String> auctionData = Json.jsonStringToMap(adm);
-                    tjPlacement.setAuctionData(new HashMap<>(auctionData));
-                } catch (JSONException e) {
-                    MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Unable to parse auction data.");
+                @Override
+                public void onParseFailed() {
+                    mAuctionDataListener = null;
+                    // The bid can't be honored without its auction data, so don't request an ad
+                    // that would be served without it.
+                    if (mLoadListener != null) {
+                        mLoadListener.onAdLoadFailed(MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
+                    }
+                    MoPubLog.log(mPlacementName, LOAD_FAILED, ADAPTER_NAME,
+                            MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR.getIntCode(),
+                            MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR);
                 }
-            }
-            tjPlacement.setVideoListener(mTapjoyListener);
-            tjPlacement.requestContent();
-            MoPubLog.log(mPlacementName, LOAD_ATTEMPTED, ADAPTER_NAME);
+            };
+            TapjoyAuctionData.get(adm, mAuctionDataListener);
         } else {
             MoPubLog.log(mPlacementName, CUSTOM, ADAPTER_NAME, "Tapjoy placementName is empty. Unable to create TJPlacement.");
         }
     }
 
+    private void requestPlacement(Activity activity, @Nullable HashMap<String, String> auctionData) {
+        tjPlacement = new TJPlacement(activity, mPlacementName, mTapjoyListener);
+        tjPlacement.setMediationName(TJC_MOPUB_NETWORK_CONSTANT);
+        tjPlacement.setAdapterVersion(TJC_MOPUB_ADAPTER_VERSION_NUMBER);
+
+        if (auctionData != null) {
+            tjPlacement.setAuctionData(auctionData);
+        }
+        tjPlacement.setVideoListener(mTapjoyListener);
+        tjPlacement.requestContent();
+        MoPubLog.log(mPlacementName, LOAD_ATTEMPTED, ADAPTER_NAME);
+    }
+
     private boolean hasVideoAvailable() {
         if (tjPlacement == null) {
             return false;
@@ -214,28 +252,6 @@ public class TapjoyRewardedVideo extends BaseAd {
 
     }
 
-    // Pass the user consent from the MoPub SDK to Tapjoy as per GDPR
-    private void fetchMoPubGDPRSettings() {
-
-        PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
-
-        if (personalInfoManager != null) {
-            Boolean gdprApplies = personalInfoManager.gdprApplies();
-
-            if (gdprApplies != null) {
-                tjPrivacyPolicy.setSubjectToGDPR(gdprApplies);
-
-                if (gdprApplies) {
-                    String userConsented = MoPub.canCollectPersonalInformation() ? "1" : "0";
-
-                    tjPrivacyPolicy.setUserConsent(userConsented);
-                } else {
-                    tjPrivacyPolicy.setUserConsent("-1");
-                }
-            }
-        }
-    }
-
     private class TapjoyRewardedVideoListener implements TJPlacementListener, TJPlacementVideoListener {
         @Override
         public void onRequestSuccess(TJPlacement placement) {
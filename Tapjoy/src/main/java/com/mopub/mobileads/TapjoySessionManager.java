@@ -0,0 +1,138 @@
+package com.mopub.mobileads;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.tapjoy.TJConnectListener;
+import com.tapjoy.Tapjoy;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Connects to Tapjoy at most once at a time on behalf of the adapter configuration and every ad
+ * instance. Requests made while a connect is in flight are queued, each with whatever it needs to
+ * request its placement, and are all released together once Tapjoy connects, or failed together
+ * if it doesn't. Listeners are notified on the main thread, whichever thread Tapjoy calls back on.
+ */
+public class TapjoySessionManager {
+    private static final String ADAPTER_NAME = TapjoySessionManager.class.getSimpleName();
+
+    /**
+     * The error queued loads fail with when Tapjoy can't connect.
+     */
+    static final MoPubErrorCode CONNECT_FAILURE_ERROR = MoPubErrorCode.NETWORK_INVALID_STATE;
+
+    private static final TapjoySessionManager sInstance = new TapjoySessionManager();
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+
+    public interface ConnectListener {
+        void onConnected();
+
+        void onConnectFailed(@NonNull MoPubErrorCode errorCode);
+    }
+
+    // Guarded by this.
+    private boolean mIsConnecting;
+    private long mConnectStartTime;
+    private final List<ConnectListener> mPendingListeners = new ArrayList<>();
+
+    private TapjoySessionManager() {
+    }
+
+    public static TapjoySessionManager getInstance() {
+        return sInstance;
+    }
+
+    /**
+     * Notifies the listener once Tapjoy is connected, connecting with the given SDK key unless a
+     * connect is already in flight, in which case the listener waits for that one. The listener is
+     * called right away when Tapjoy is already connected.
+     */
+    public void connect(@NonNull final Context context, @NonNull final String sdkKey,
+                        @Nullable final Hashtable<String, Object> connectFlags,
+                        @NonNull final ConnectListener listener) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(sdkKey);
+        Preconditions.checkNotNull(listener);
+
+        if (Tapjoy.isConnected()) {
+            listener.onConnected();
+            return;
+        }
+
+        synchronized (this) {
+            mPendingListeners.add(listener);
+
+            if (mIsConnecting) {
+                MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy is still connecting. " +
+                        "The request will continue once it finishes.");
+                return;
+            }
+            mIsConnecting = true;
+            mConnectStartTime = SystemClock.elapsedRealtime();
+        }
+
+        Tapjoy.connect(context, sdkKey, connectFlags, mConnectListener);
+    }
+
+    /**
+     * Removes a listener that no longer needs to hear about the connect in flight, e.g. because
+     * its ad was invalidated while waiting.
+     */
+    public synchronized void cancel(@NonNull final ConnectListener listener) {
+        mPendingListeners.remove(listener);
+    }
+
+    private final TJConnectListener mConnectListener = new TJConnectListener() {
+        @Override
+        public void onConnectSuccess() {
+            sMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    final List<ConnectListener> listeners = finishConnect(true);
+
+                    for (final ConnectListener listener : listeners) {
+                        listener.onConnected();
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void onConnectFailure() {
+            sMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    final List<ConnectListener> listeners = finishConnect(false);
+
+                    for (final ConnectListener listener : listeners) {
+                        listener.onConnectFailed(CONNECT_FAILURE_ERROR);
+                    }
+                }
+            });
+        }
+    };
+
+    @NonNull
+    private synchronized List<ConnectListener> finishConnect(final boolean success) {
+        final long elapsedMillis = SystemClock.elapsedRealtime() - mConnectStartTime;
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Tapjoy connect " + (success ? "succeeded" : "failed") +
+                " in " + elapsedMillis + " ms with " + mPendingListeners.size() + " pending requests");
+
+        final List<ConnectListener> listeners = new ArrayList<>(mPendingListeners);
+        mPendingListeners.clear();
+        mIsConnecting = false;
+        return listeners;
+    }
+}
@@ -0,0 +1,337 @@
+// Copyright 2018-2021 Twitter, Inc.
+// Licensed under the MoPub SDK License Agreement
+// http://www.mopub.com/legal/sdk-license-agreement/
+
+package com.mopub.mobileads.testing;
+
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.logging.MoPubLogger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_ATTEMPTED;
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_SUCCESS;
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_ATTEMPTED;
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.SHOW_SUCCESS;
+import static com.mopub.common.logging.MoPubLog.LogLevel.DEBUG;
+
+/**
+ * Records how long each adapter takes to load and show ads. Every adapter already logs
+ * LOAD_ATTEMPTED, LOAD_SUCCESS, SHOW_ATTEMPTED and SHOW_SUCCESS from its listener paths, so this
+ * listens to those logs instead of touching the adapters, and times each attempt until the matching
+ * success for the same adapter and ad network ID.
+ * <p>
+ * Latencies go into fixed power-of-two millisecond buckets. Once an adapter and ad network ID have
+ * been seen, matching and recording an event allocate nothing more, though MoPubLog has already
+ * built the log message by then. A callback counts as a thread hop when it arrives on a
+ * different thread than its attempt, and as off the main thread when it isn't on the main thread.
+ */
+public class AdapterMetrics {
+    private static final String ADAPTER_NAME_PLACEHOLDER = "\u0000adapter\u0000";
+    private static final String NO_AD_NETWORK_ID = "";
+
+    // Bucket i holds latencies in [2^(i-1), 2^i) ms; the last bucket is open-ended.
+    private static final int BUCKET_COUNT = 18;
+
+    private enum Event {
+        LOAD_ATTEMPT(LOAD_ATTEMPTED.getMessage(ADAPTER_NAME_PLACEHOLDER)),
+        LOAD_DONE(LOAD_SUCCESS.getMessage(ADAPTER_NAME_PLACEHOLDER)),
+        SHOW_ATTEMPT(SHOW_ATTEMPTED.getMessage(ADAPTER_NAME_PLACEHOLDER)),
+        SHOW_DONE(SHOW_SUCCESS.getMessage(ADAPTER_NAME_PLACEHOLDER));
+
+        @NonNull
+        final String prefix;
+        @Nullable
+        final String suffix;
+
+        Event(@Nullable final String template) {
+            final int index = template == null ? -1 : template.indexOf(ADAPTER_NAME_PLACEHOLDER);
+            if (index < 0) {
+                // This event can't be told apart from the others; never match it.
+                prefix = "";
+                suffix = null;
+            } else {
+                prefix = template.substring(0, index);
+                suffix = template.substring(index + ADAPTER_NAME_PLACEHOLDER.length());
+            }
+        }
+
+        /**
+         * @return the length of the adapter name in the message, or -1 if the message isn't this
+         * event. The name starts at {@link #prefix}'s length.
+         */
+        int matchAdapterNameLength(@NonNull final String message) {
+            if (suffix == null || message.length() <= prefix.length() + suffix.length()
+                    || !message.startsWith(prefix) || !message.endsWith(suffix)) {
+                return -1;
+            }
+            return message.length() - prefix.length() - suffix.length();
+        }
+    }
+
+    private static final Event[] EVENTS = Event.values();
+
+    static class Histogram {
+        private final long[] mBuckets = new long[BUCKET_COUNT];
+        private long mCount;
+        private long mTotalMillis;
+        private long mMaxMillis;
+
+        void record(final long millis) {
+            final int bucket = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(millis));
+            mBuckets[bucket]++;
+            mCount++;
+            mTotalMillis += millis;
+            mMaxMillis = Math.max(mMaxMillis, millis);
+        }
+
+        /**
+         * @return the upper bound of the bucket holding the given percentile, in milliseconds.
+         */
+        long percentileMillis(final int percentile) {
+            if (mCount == 0) {
+                return 0;
+            }
+
+            final long rank = (mCount * percentile + 99) / 100;
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT - 1; i++) {
+                seen += mBuckets[i];
+                if (seen >= rank) {
+                    return Math.min(mMaxMillis, 1L << i);
+                }
+            }
+            return mMaxMillis;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            if (mCount == 0) {
+                return "n=0";
+            }
+            return "n=" + mCount + " avg=" + (mTotalMillis / mCount) + "ms p50<=" + percentileMillis(50)
+                    + "ms p90<=" + percentileMillis(90) + "ms max=" + mMaxMillis + "ms";
+        }
+    }
+
+    static class Stats {
+        @NonNull
+        final String adapterName;
+        @NonNull
+        final String format;
+        final Histogram loadLatency = new Histogram();
+        final Histogram showLatency = new Histogram();
+        long loadAttempts;
+        long loadSuccesses;
+        long showAttempts;
+        long showSuccesses;
+        long threadHops;
+        long offMainThreadCallbacks;
+
+        // Ad network ID -> {load start, load thread ID, show start, show thread ID}, with 0 for
+        // no attempt in flight.
+        private final Map<String, long[]> mPending = new HashMap<>();
+
+        Stats(@NonNull final String adapterName) {
+            this.adapterName = adapterName;
+            this.format = formatOf(adapterName);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            final long fillPercent = loadAttempts == 0 ? 0 : loadSuccesses * 100 / loadAttempts;
+            return adapterName + " (" + format + ")"
+                    + "\nload " + loadLatency
+                    + "\nfill " + loadSuccesses + "/" + loadAttempts + " (" + fillPercent + "%)"
+                    + "\nshow " + showLatency + ", shown " + showSuccesses + "/" + showAttempts
+                    + "\nthread hops " + threadHops + ", off main thread " + offMainThreadCallbacks;
+        }
+    }
+
+    private static final MoPubLogger sLogger = new MoPubLogger() {
+        @Override
+        public void log(@Nullable String className, @Nullable String methodName,
+                        @Nullable String identifier, @Nullable String message) {
+            if (message != null) {
+                record(identifier, message);
+            }
+        }
+    };
+
+    // Guarded by AdapterMetrics.class. The list holds the same stats as the map, so they can be
+    // matched against a log message without allocating an iterator.
+    private static final Map<String, Stats> sStats = new TreeMap<>();
+    private static final List<Stats> sStatsList = new ArrayList<>();
+    private static boolean sEnabled;
+
+    private AdapterMetrics() {
+    }
+
+    /**
+     * Starts recording.
+     */
+    static synchronized void enable() {
+        if (sEnabled) {
+            return;
+        }
+
+        MoPubLog.addLogger(sLogger, DEBUG);
+        sEnabled = true;
+    }
+
+    /**
+     * @return a copy of the metrics recorded so far, one entry per adapter.
+     */
+    @NonNull
+    static synchronized List<Stats> snapshot() {
+        final List<Stats> snapshot = new ArrayList<>(sStats.size());
+        for (final Stats stats : sStats.values()) {
+            final Stats copy = new Stats(stats.adapterName);
+            copyHistogram(stats.loadLatency, copy.loadLatency);
+            copyHistogram(stats.showLatency, copy.showLatency);
+            copy.loadAttempts = stats.loadAttempts;
+            copy.loadSuccesses = stats.loadSuccesses;
+            copy.showAttempts = stats.showAttempts;
+            copy.showSuccesses = stats.showSuccesses;
+            copy.threadHops = stats.threadHops;
+            copy.offMainThreadCallbacks = stats.offMainThreadCallbacks;
+            snapshot.add(copy);
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return one human-readable entry per adapter, sorted by adapter name.
+     */
+    @NonNull
+    static ArrayList<String> dump() {
+        final ArrayList<String> lines = new ArrayList<>();
+        for (final Stats stats : snapshot()) {
+            lines.add(stats.toString());
+        }
+        return lines;
+    }
+
+    static synchronized void reset() {
+        sStats.clear();
+        sStatsList.clear();
+    }
+
+    private static synchronized void record(@Nullable final String identifier,
+                                            @NonNull final String message) {
+        for (final Event event : EVENTS) {
+            final int adapterNameLength = event.matchAdapterNameLength(message);
+            if (adapterNameLength >= 0) {
+                record(event, getStats(message, event.prefix.length(), adapterNameLength),
+                        identifier == null ? NO_AD_NETWORK_ID : identifier);
+                return;
+            }
+        }
+    }
+
+    // Must hold AdapterMetrics.class.
+    @NonNull
+    private static Stats getStats(@NonNull final String message, final int adapterNameStart,
+                                  final int adapterNameLength) {
+        for (int i = 0; i < sStatsList.size(); i++) {
+            final Stats stats = sStatsList.get(i);
+            if (stats.adapterName.length() == adapterNameLength
+                    && message.regionMatches(adapterNameStart, stats.adapterName, 0, adapterNameLength)) {
+                return stats;
+            }
+        }
+
+        // First time this adapter is seen.
+        final String adapterName = message.substring(adapterNameStart,
+                adapterNameStart + adapterNameLength);
+        final Stats stats = new Stats(adapterName);
+        sStats.put(adapterName, stats);
+        sStatsList.add(stats);
+        return stats;
+    }
+
+    // Must hold AdapterMetrics.class.
+    private static void record(@NonNull final Event event, @NonNull final Stats stats,
+                               @NonNull final String identifier) {
+        long[] pending = stats.mPending.get(identifier);
+        if (pending == null) {
+            pending = new long[4];
+            stats.mPending.put(identifier, pending);
+        }
+
+        final long now = SystemClock.elapsedRealtime();
+        final long threadId = Thread.currentThread().getId();
+
+        switch (event) {
+            case LOAD_ATTEMPT:
+                stats.loadAttempts++;
+                pending[0] = now;
+                pending[1] = threadId;
+                break;
+            case LOAD_DONE:
+                stats.loadSuccesses++;
+                if (pending[0] != 0) {
+                    stats.loadLatency.record(now - pending[0]);
+                    recordThread(stats, pending[1], threadId);
+                    pending[0] = 0;
+                }
+                break;
+            case SHOW_ATTEMPT:
+                stats.showAttempts++;
+                pending[2] = now;
+                pending[3] = threadId;
+                break;
+            case SHOW_DONE:
+                stats.showSuccesses++;
+                if (pending[2] != 0) {
+                    stats.showLatency.record(now - pending[2]);
+                    recordThread(stats, pending[3], threadId);
+                    pending[2] = 0;
+                }
+                break;
+        }
+    }
+
+    private static void recordThread(@NonNull final Stats stats, final long attemptThreadId,
+                                     final long callbackThreadId) {
+        if (attemptThreadId != callbackThreadId) {
+            stats.threadHops++;
+        }
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            stats.offMainThreadCallbacks++;
+        }
+    }
+
+    private static void copyHistogram(@NonNull final Histogram from, @NonNull final Histogram to) {
+        System.arraycopy(from.mBuckets, 0, to.mBuckets, 0, BUCKET_COUNT);
+        to.mCount = from.mCount;
+        to.mTotalMillis = from.mTotalMillis;
+        to.mMaxMillis = from.mMaxMillis;
+    }
+
+    @NonNull
+    private static String formatOf(@NonNull final String adapterName) {
+        if (adapterName.contains("Rewarded")) {
+            return "rewarded";
+        } else if (adapterName.contains("Interstitial")) {
+            return "interstitial";
+        } else if (adapterName.contains("Banner") || adapterName.contains("Inline")) {
+            return "banner";
+        } else if (adapterName.contains("Native")) {
+            return "native";
+        }
+        return "other";
+    }
+}
@@ -149,6 +149,9 @@ public class MoPubSampleActivity extends AppCompatActivity
         // that is not normally user-facing. This is only used for native ads.
         LoggingUtils.enableCanaryLogging(this);
 
+        // Times every adapter's load and show callbacks for the adapter metrics menu.
+        AdapterMetrics.enable();
+
 
         mImpressionListener = createImpressionsListener();
         ImpressionsEmitter.addListener(mImpressionListener);
@@ -256,6 +259,7 @@ public class MoPubSampleActivity extends AppCompatActivity
     private static final String NETWORKS_FRAGMENT_TAG = "networks_info_fragment";
     private static final String LIST_FRAGMENT_TAG = "list_fragment";
     private static final String IMPRESSIONS_FRAGMENT_TAG = "impressions_info_fragment";
+    private static final String ADAPTER_METRICS_FRAGMENT_TAG = "adapter_metrics_fragment";
 
     @Override
     public boolean onCreateOptionsMenu(Menu menu) {
@@ -304,6 +308,9 @@ public class MoPubSampleActivity extends AppCompatActivity
             case R.id.action_clear_logs:
                 onClearLogs();
                 return true;
+            case R.id.action_adapter_metrics:
+                onAdapterMetricsMenu();
+                return true;
             case R.id.qr_scan:
                 onCaptureQrCode();
                 return true;
@@ -368,6 +375,17 @@ public class MoPubSampleActivity extends AppCompatActivity
         }
     }
 
+    private void onAdapterMetricsMenu() {
+        final FragmentManager manager = getSupportFragmentManager();
+        if (manager.findFragmentByTag(ADAPTER_METRICS_FRAGMENT_TAG) == null) {
+            ImpressionsInfoFragment fragment = ImpressionsInfoFragment.newInstance(AdapterMetrics.dump());
+            manager.beginTransaction()
+                    .replace(R.id.fragment_container, fragment, ADAPTER_METRICS_FRAGMENT_TAG)
+                    .addToBackStack(ADAPTER_METRICS_FRAGMENT_TAG)
+                    .commit();
+        }
+    }
+
     private void onNavPrivacyInfo() {
         final FragmentManager manager = getSupportFragmentManager();
         if (manager.findFragmentByTag(PRIVACY_FRAGMENT_TAG) == null) {
@@ -448,6 +466,13 @@ public class MoPubSampleActivity extends AppCompatActivity
             fragment.onClear();
         }
         mImpressionsList.clear();
+
+        final ImpressionsInfoFragment metricsFragment =
+                (ImpressionsInfoFragment) manager.findFragmentByTag(ADAPTER_METRICS_FRAGMENT_TAG);
+        if (metricsFragment != null) {
+            metricsFragment.onClear();
+        }
+        AdapterMetrics.reset();
     }
 
     private ImpressionListener createImpressionsListener() {
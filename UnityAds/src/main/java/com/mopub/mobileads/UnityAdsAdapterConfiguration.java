@@ -47,6 +47,7 @@ public class UnityAdsAdapterConfiguration extends BaseAdapterConfiguration {
         LOG_PLACEMENT_ID_MISSING("Parameter placementId is missing or entered incorrectly in the Unity Ads network configuration."),
         LOG_INIT_FAILED_WITH_ERROR("Unity Ads initialization failed with error: "),
         LOG_INIT_EXCEPTION("Initializing Unity Ads has encountered an exception."),
+        LOG_INIT_TIMED_OUT("Unity Ads initialization did not complete in time. Failing queued ad requests after "),
         LOG_LOAD_SUCCESS("Unity ad successfully loaded for placement: "),
         LOG_LOAD_FAILED("Unity ad failed to load for placement: "),
         LOG_BANNER_UNSUPPORTED("Unity Ads does not support medium rectangle ads."),
@@ -124,9 +125,12 @@ public class UnityAdsAdapterConfiguration extends BaseAdapterConfiguration {
     }
 
     @Override
-    public void initializeNetwork(@NonNull final Context context, @Nullable final Map<String, String> configuration, @NonNull final OnNetworkInitializationFinishedListener listener) {
+    public void initializeNetwork(@NonNull final Context context, @Nullable final Map<String, String> configuration, @NonNull final OnNetworkInitializationFinishedListener initializationFinishedListener) {
         Preconditions.checkNotNull(context);
-        Preconditions.checkNotNull(listener);
+        Preconditions.checkNotNull(initializationFinishedListener);
+
+        final OnNetworkInitializationFinishedListener listener =
+                new UnityAdsInitializationTimer(initializationFinishedListener);
 
         synchronized (UnityAdsAdapterConfiguration.class) {
             try {
@@ -0,0 +1,110 @@
+package com.mopub.mobileads;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.MoPub;
+import com.mopub.common.Preconditions;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.privacy.ConsentStatus;
+import com.mopub.common.privacy.ConsentStatusChangeListener;
+import com.mopub.common.privacy.PersonalInfoManager;
+import com.unity3d.ads.metadata.MetaData;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/** Passes the user consent from the MoPub SDK to Unity Ads as per GDPR, only when it changes. */
+final class UnityAdsConsentTracker {
+    private static final String ADAPTER_NAME = UnityAdsConsentTracker.class.getSimpleName();
+
+    private static volatile boolean sIsSettled;
+    private static volatile boolean sAllowedLegitimateInterest;
+
+    // Guarded by UnityAdsConsentTracker.class.
+    private static boolean sIsListening;
+    @Nullable
+    private static Boolean sConsent;
+    @Nullable
+    private static Context sApplicationContext;
+
+    private static final ConsentStatusChangeListener sConsentStatusChangeListener =
+            new ConsentStatusChangeListener() {
+                @Override
+                public void onConsentStateChange(@NonNull ConsentStatus oldConsentStatus,
+                                                 @NonNull ConsentStatus newConsentStatus,
+                                                 boolean canCollectPersonalInformation) {
+                    synchronized (UnityAdsConsentTracker.class) {
+                        final PersonalInfoManager personalInfoManager =
+                                MoPub.getPersonalInformationManager();
+                        if (personalInfoManager != null) {
+                            pushIfChanged(personalInfoManager);
+                        }
+                    }
+                }
+            };
+
+    private UnityAdsConsentTracker() {
+    }
+
+    /**
+     * Makes sure Unity Ads has the current user consent.
+     */
+    static void update(@NonNull final Context context) {
+        Preconditions.checkNotNull(context);
+
+        if (sIsSettled && sAllowedLegitimateInterest == MoPub.shouldAllowLegitimateInterest()) {
+            return;
+        }
+
+        synchronized (UnityAdsConsentTracker.class) {
+            sApplicationContext = context.getApplicationContext();
+
+            final PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
+            if (personalInfoManager == null) {
+                return;
+            }
+
+            if (!sIsListening) {
+                personalInfoManager.subscribeConsentStatusChangeListener(sConsentStatusChangeListener);
+                sIsListening = true;
+            }
+
+            pushIfChanged(personalInfoManager);
+
+            // Whether GDPR applies isn't reported as a consent change, so keep checking on every
+            // load until the MoPub SDK knows.
+            sIsSettled = personalInfoManager.gdprApplies() != null;
+        }
+    }
+
+    // Must hold UnityAdsConsentTracker.class.
+    private static void pushIfChanged(@NonNull final PersonalInfoManager personalInfoManager) {
+        final boolean shouldAllowLegitimateInterest = MoPub.shouldAllowLegitimateInterest();
+        sAllowedLegitimateInterest = shouldAllowLegitimateInterest;
+
+        if (sApplicationContext == null || personalInfoManager.gdprApplies() != Boolean.TRUE) {
+            return;
+        }
+
+        final boolean consent;
+        if (shouldAllowLegitimateInterest) {
+            final ConsentStatus consentStatus = personalInfoManager.getPersonalInfoConsentStatus();
+            consent = consentStatus != ConsentStatus.EXPLICIT_NO
+                    && consentStatus != ConsentStatus.DNT;
+        } else {
+            consent = MoPub.canCollectPersonalInformation();
+        }
+
+        if (sConsent != null && sConsent == consent) {
+            return;
+        }
+
+        final MetaData gdprMetaData = new MetaData(sApplicationContext);
+        gdprMetaData.set("gdpr.consent", consent);
+        gdprMetaData.commit();
+        sConsent = consent;
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Passed user consent to Unity Ads: " + consent);
+    }
+}
@@ -2,19 +2,21 @@ package com.mopub.mobileads;
 
 import android.app.Activity;
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
 
 import com.mopub.common.MoPub;
+import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
-import com.mopub.common.privacy.ConsentStatus;
-import com.mopub.common.privacy.PersonalInfoManager;
 import com.unity3d.ads.IUnityAdsInitializationListener;
 import com.unity3d.ads.UnityAds;
 import com.unity3d.ads.metadata.MediationMetaData;
-import com.unity3d.ads.metadata.MetaData;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
@@ -23,22 +25,54 @@ import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants
 import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.LOG_GAME_ID_MISSING;
 import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.LOG_INIT_FAILED_WITH_ERROR;
 import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.LOG_INIT_SUCCESS;
-
+import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.LOG_INIT_TIMED_OUT;
+
+/**
+ * Initializes Unity Ads at most once at a time. Anyone who needs the SDK while initialization is
+ * in flight is queued and notified as soon as it completes or fails. If it takes longer than the
+ * initialization timeout, every queued listener is failed in one batch; initialization itself
+ * keeps going and later requests wait for it again.
+ */
 public class UnityAdsInitializer {
     private static final String ADAPTER_NAME = UnityAdsInitializer.class.getSimpleName();
-    private static UnityAdsInitializer mInstance;
+    private static final long DEFAULT_INITIALIZATION_TIMEOUT_MILLIS = 10000;
+
+    private static final UnityAdsInitializer sInstance = new UnityAdsInitializer();
+
+    private enum InitState {
+        NOT_INITIALIZED,
+        INITIALIZING,
+        INITIALIZED
+    }
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    // Guarded by this.
+    private InitState mInitState = InitState.NOT_INITIALIZED;
+    private final List<IUnityAdsInitializationListener> mPendingListeners = new ArrayList<>();
+    private boolean mIsTimeoutScheduled;
+    private long mInitializationTimeoutMillis = DEFAULT_INITIALIZATION_TIMEOUT_MILLIS;
+
+    private UnityAdsInitializer() {
+    }
 
     public static UnityAdsInitializer getInstance() {
-        if (mInstance == null) {
-            mInstance = new UnityAdsInitializer();
+        return sInstance;
+    }
+
+    /**
+     * Sets how long queued listeners wait for initialization before they are failed.
+     */
+    public synchronized void setInitializationTimeoutMillis(final long timeoutMillis) {
+        if (timeoutMillis > 0) {
+            mInitializationTimeoutMillis = timeoutMillis;
         }
-        return mInstance;
     }
 
     // Returns false if initialized and true if initialization needs to take place
     public boolean checkOrInitUnityAds(@NonNull Activity launcherActivity, @NonNull Map<String, String> serverExtras) {
         if (UnityAds.isInitialized()) {
-            MoPubLog.log(CUSTOM, ADAPTER_NAME, LOG_INIT_FAILED_WITH_ERROR.getMessage());
+            UnityAdsConsentTracker.update(launcherActivity);
             return false;
         }
 
@@ -49,53 +83,147 @@ public class UnityAdsInitializer {
             return true;
         }
 
-        initializeUnityAds(launcherActivity, gameId, new IUnityAdsInitializationListener() {
-            @Override
-            public void onInitializationComplete() {
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, LOG_INIT_SUCCESS.getMessage());
-            }
-
-            @Override
-            public void onInitializationFailed(UnityAds.UnityAdsInitializationError unityAdsInitializationError, String s) {
-                MoPubLog.log(CUSTOM, ADAPTER_NAME, LOG_INIT_FAILED_WITH_ERROR.getMessage() + s);
-            }
-        });
+        initializeUnityAds(launcherActivity, gameId, null);
 
         // Return true since initialization is not complete yet
         return true;
     }
 
+    /**
+     * Notifies the listener once Unity Ads is initialized, starting initialization with the game
+     * ID from the server extras if nobody has done so yet. The listener is called right away when
+     * the SDK is already initialized.
+     */
+    public void runAfterInitialization(@NonNull final Context context,
+                                       @NonNull final Map<String, String> serverExtras,
+                                       @NonNull final IUnityAdsInitializationListener listener) {
+        Preconditions.checkNotNull(context);
+        Preconditions.checkNotNull(serverExtras);
+        Preconditions.checkNotNull(listener);
+
+        synchronized (this) {
+            if (mInitState == InitState.INITIALIZING) {
+                enqueue(listener);
+                return;
+            }
+        }
+
+        if (UnityAds.isInitialized()) {
+            UnityAdsConsentTracker.update(context);
+            listener.onInitializationComplete();
+            return;
+        }
+
+        final String gameId = serverExtras.get(GAME_ID_KEY.getMessage());
+        if (TextUtils.isEmpty(gameId)) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, LOG_GAME_ID_MISSING.getMessage());
+            listener.onInitializationFailed(UnityAds.UnityAdsInitializationError.INVALID_ARGUMENT,
+                    LOG_GAME_ID_MISSING.getMessage());
+            return;
+        }
+
+        initializeUnityAds(context, gameId, listener);
+    }
+
+    /**
+     * Removes a listener that no longer needs to hear about initialization, e.g. because its ad
+     * was invalidated while waiting.
+     */
+    public synchronized void cancel(@NonNull final IUnityAdsInitializationListener listener) {
+        mPendingListeners.remove(listener);
+    }
+
+    /**
+     * Starts initialization unless it is already in flight. The listener, if any, is queued with
+     * every other caller waiting on the same initialization.
+     */
     public void initializeUnityAds(final Context context, String gameId, IUnityAdsInitializationListener initializationListener) {
+        synchronized (this) {
+            if (initializationListener != null) {
+                enqueue(initializationListener);
+            }
+
+            if (mInitState == InitState.INITIALIZING) {
+                return;
+            }
+            mInitState = InitState.INITIALIZING;
+        }
+
         UnityAds.setDebugMode(MoPubLog.getLogLevel() == MoPubLog.LogLevel.DEBUG);
-        initGdpr(context);
+        UnityAdsConsentTracker.update(context);
         initMediationMetadata(context);
-        UnityAds.initialize(context, gameId, false, initializationListener);
+        UnityAds.initialize(context, gameId, false, mInitializationListener);
     }
 
-    private void initGdpr(Context context) {
-        // Pass the user consent from the MoPub SDK to Unity Ads as per GDPR
-        PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
-
-        final boolean canCollectPersonalInfo = MoPub.canCollectPersonalInformation();
-        final boolean shouldAllowLegitimateInterest = MoPub.shouldAllowLegitimateInterest();
-
-        if (personalInfoManager != null && personalInfoManager.gdprApplies() == Boolean.TRUE) {
-            final MetaData gdprMetaData = new MetaData(context);
-
-            if (shouldAllowLegitimateInterest) {
-                if (personalInfoManager.getPersonalInfoConsentStatus() == ConsentStatus.EXPLICIT_NO
-                        || personalInfoManager.getPersonalInfoConsentStatus() == ConsentStatus.DNT) {
-                    gdprMetaData.set("gdpr.consent", false);
-                } else {
-                    gdprMetaData.set("gdpr.consent", true);
-                }
-            } else {
-                gdprMetaData.set("gdpr.consent", canCollectPersonalInfo);
-            }
-            gdprMetaData.commit();
+    // Must hold this.
+    private void enqueue(@NonNull final IUnityAdsInitializationListener listener) {
+        mPendingListeners.add(listener);
+
+        if (!mIsTimeoutScheduled) {
+            mIsTimeoutScheduled = true;
+            mHandler.postDelayed(mTimeoutRunnable, mInitializationTimeoutMillis);
         }
     }
 
+    @NonNull
+    private synchronized List<IUnityAdsInitializationListener> drainPendingListeners() {
+        final List<IUnityAdsInitializationListener> listeners = new ArrayList<>(mPendingListeners);
+        mPendingListeners.clear();
+
+        if (mIsTimeoutScheduled) {
+            mIsTimeoutScheduled = false;
+            mHandler.removeCallbacks(mTimeoutRunnable);
+        }
+        return listeners;
+    }
+
+    private final Runnable mTimeoutRunnable = new Runnable() {
+        @Override
+        public void run() {
+            final List<IUnityAdsInitializationListener> listeners = drainPendingListeners();
+            final String message = LOG_INIT_TIMED_OUT.getMessage() + mInitializationTimeoutMillis + " ms";
+
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, message);
+            for (final IUnityAdsInitializationListener listener : listeners) {
+                listener.onInitializationFailed(UnityAds.UnityAdsInitializationError.INTERNAL_ERROR,
+                        message);
+            }
+        }
+    };
+
+    private final IUnityAdsInitializationListener mInitializationListener = new IUnityAdsInitializationListener() {
+        @Override
+        public void onInitializationComplete() {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, LOG_INIT_SUCCESS.getMessage());
+
+            final List<IUnityAdsInitializationListener> listeners;
+            synchronized (UnityAdsInitializer.this) {
+                mInitState = InitState.INITIALIZED;
+                listeners = drainPendingListeners();
+            }
+
+            for (final IUnityAdsInitializationListener listener : listeners) {
+                listener.onInitializationComplete();
+            }
+        }
+
+        @Override
+        public void onInitializationFailed(UnityAds.UnityAdsInitializationError unityAdsInitializationError, String s) {
+            MoPubLog.log(CUSTOM, ADAPTER_NAME, LOG_INIT_FAILED_WITH_ERROR.getMessage() + s);
+
+            final List<IUnityAdsInitializationListener> listeners;
+            synchronized (UnityAdsInitializer.this) {
+                // Allow the next request to try again.
+                mInitState = InitState.NOT_INITIALIZED;
+                listeners = drainPendingListeners();
+            }
+
+            for (final IUnityAdsInitializationListener listener : listeners) {
+                listener.onInitializationFailed(unityAdsInitializationError, s);
+            }
+        }
+    };
+
     private void initMediationMetadata(Context context) {
         final MediationMetaData mediationMetaData = new MediationMetaData(context);
         mediationMetaData.setName("MoPub");
@@ -42,12 +42,12 @@ public class UnityBanner extends UnityBaseAd implements BannerView.IListener {
 
     @Override
     protected void onInvalidate() {
+        cancelPendingLoad();
         cleanBanner();
     }
 
     @Override
-    protected void load(@NonNull final Context context, @NonNull final AdData adData) {
-        super.load(context, adData);
+    protected void loadAfterInitialization(@NonNull final Context context, @NonNull final AdData adData) {
         if (failIfPlacementIdNull()) {
             return;
         }
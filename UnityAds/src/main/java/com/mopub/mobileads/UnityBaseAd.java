@@ -16,10 +16,8 @@ import com.unity3d.ads.UnityAds;
 import java.util.Map;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
-import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.GAME_ID_KEY;
-import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.LOG_GAME_ID_MISSING;
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.LOAD_FAILED;
 import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.LOG_INIT_FAILED_WITH_ERROR;
-import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.LOG_INIT_SUCCESS;
 import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.LOG_PLACEMENT_ID_MISSING;
 import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.PLACEMENT_ID_KEY;
 import static com.mopub.mobileads.UnityAdsAdapterConfiguration.UnityAdsConstants.ZONE_ID_KEY;
@@ -29,8 +27,16 @@ public abstract class UnityBaseAd extends BaseAd {
     protected Activity mActivity;
     protected String mPlacementId = "";
 
+    @Nullable
+    private IUnityAdsInitializationListener mPendingInitializationListener;
+
     protected abstract String getDefaultPlacementId();
 
+    /**
+     * Loads the ad once Unity Ads is initialized. Called on the main thread.
+     */
+    protected abstract void loadAfterInitialization(@NonNull Context context, @NonNull AdData adData);
+
     @Nullable
     @Override
     protected LifecycleListener getLifecycleListener() {
@@ -63,16 +69,53 @@ public abstract class UnityBaseAd extends BaseAd {
     }
 
     @Override
-    protected void load(@NonNull Context context, @NonNull AdData adData) {
+    protected void load(@NonNull final Context context, @NonNull final AdData adData) {
         Preconditions.checkNotNull(context);
         Preconditions.checkNotNull(adData);
 
         final Map<String, String> extras = adData.getExtras();
 
-        UnityAdsInitializer.getInstance().checkOrInitUnityAds((Activity) context, extras);
-
         mPlacementId = placementIdForServerExtras(extras);
         setAutomaticImpressionAndClickTracking(false);
+
+        // Loads made before initialization completes would be dropped by Unity Ads, so they are
+        // held until the initializer reports back.
+        final IUnityAdsInitializationListener initializationListener = new IUnityAdsInitializationListener() {
+            @Override
+            public void onInitializationComplete() {
+                mPendingInitializationListener = null;
+                loadAfterInitialization(context, adData);
+            }
+
+            @Override
+            public void onInitializationFailed(UnityAds.UnityAdsInitializationError error, String message) {
+                mPendingInitializationListener = null;
+                MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME,
+                        LOG_INIT_FAILED_WITH_ERROR.getMessage() + message);
+
+                final MoPubErrorCode errorCode =
+                        error == UnityAds.UnityAdsInitializationError.INVALID_ARGUMENT ?
+                                MoPubErrorCode.ADAPTER_CONFIGURATION_ERROR :
+                                MoPubErrorCode.NETWORK_INVALID_STATE;
+                MoPubLog.log(getAdNetworkId(), LOAD_FAILED, ADAPTER_NAME, errorCode.getIntCode(),
+                        errorCode);
+                UnityEventAdapter.sendAdFailedToLoadEvent(mLoadListener, errorCode);
+            }
+        };
+
+        mPendingInitializationListener = initializationListener;
+        UnityAdsInitializer.getInstance().runAfterInitialization(context, extras, initializationListener);
+    }
+
+    /**
+     * Drops a load that is still waiting for initialization. Subclasses call this when they are
+     * invalidated.
+     */
+    protected void cancelPendingLoad() {
+        if (mPendingInitializationListener != null) {
+            UnityAdsInitializer.getInstance().cancel(mPendingInitializationListener);
+            mPendingInitializationListener = null;
+        }
     }
 
     // Returns true if placementId is null and reports the load failure
@@ -42,11 +42,11 @@ public abstract class UnityVideoAd extends UnityBaseAd {
 
     @Override
     protected void onInvalidate() {
+        cancelPendingLoad();
     }
 
     @Override
-    protected void load(@NonNull Context context, @NonNull AdData adData) {
-        super.load(context, adData);
+    protected void loadAfterInitialization(@NonNull Context context, @NonNull AdData adData) {
         if (failIfPlacementIdNull()) {
             return;
         }
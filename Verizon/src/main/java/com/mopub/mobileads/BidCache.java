@@ -1,29 +1,203 @@
 package com.mopub.mobileads;
 
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.logging.MoPubLog;
 import com.verizon.ads.Bid;
-import com.verizon.ads.Configuration;
-import com.verizon.ads.support.TimedMemoryCache;
 
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/**
+ * Holds super auction bids until they are consumed by a load. Several bids can be cached per
+ * placement and are handed out oldest first. Bids expire after the super auction cache timeout,
+ * and once {@link #MAX_BIDS} bids are cached the least recently used placement gives up its oldest
+ * bid. Expired bids are purged under memory pressure and everything is dropped when memory is low.
+ */
 final class BidCache {
 
+    private static final String ADAPTER_NAME = BidCache.class.getSimpleName();
+
     private static final int TEN_MINUTES_MILLIS = 10 * 60 * 1000; // super auction timeout
     private static final String DOMAIN = "com.verizon.ads";
     private static final String CACHE_TIMEOUT_KEY = "super.auction.cache.timeout";
+    private static final int MAX_BIDS = 32;
 
-    private static final TimedMemoryCache<Bid> bidTimedMemoryCache;
+    // Access-ordered, so iteration starts at the least recently used placement.
+    private static final LinkedHashMap<String, ArrayDeque<CachedBid>> sBids =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private static int sSize;
 
-    static {
-        bidTimedMemoryCache = new TimedMemoryCache<>();
+    private static long sHitCount;
+    private static long sMissCount;
+    private static long sExpiredCount;
+    private static long sEvictedCount;
+
+    private static boolean sMemoryCallbacksRegistered;
+
+    private static class CachedBid {
+        @NonNull
+        final Bid bid;
+        final long expirationTime;
+
+        CachedBid(@NonNull final Bid bid, final long expirationTime) {
+            this.bid = bid;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired(final long now) {
+            return now >= expirationTime;
+        }
     }
 
-    static void put(final String placementId, final Bid bid) {
+    private static final ComponentCallbacks2 sMemoryCallbacks = new ComponentCallbacks2() {
+        @Override
+        public void onTrimMemory(final int level) {
+            if (level >= TRIM_MEMORY_COMPLETE || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+                clear();
+            } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+                purgeExpired();
+            }
+        }
+
+        @Override
+        public void onConfigurationChanged(@NonNull final Configuration newConfig) {
+        }
+
+        @Override
+        public void onLowMemory() {
+            clear();
+        }
+    };
+
+    private BidCache() {
+    }
+
+    /**
+     * Starts listening for memory pressure. Safe to call more than once.
+     */
+    static synchronized void registerMemoryCallbacks(@NonNull final Context context) {
+        if (sMemoryCallbacksRegistered) {
+            return;
+        }
+
+        context.getApplicationContext().registerComponentCallbacks(sMemoryCallbacks);
+        sMemoryCallbacksRegistered = true;
+    }
+
+    static synchronized void put(final String placementId, final Bid bid) {
+        if (placementId == null || bid == null) {
+            return;
+        }
+
+        final long timeLimit = com.verizon.ads.Configuration.getInt(DOMAIN, CACHE_TIMEOUT_KEY,
+                TEN_MINUTES_MILLIS);
+
+        ArrayDeque<CachedBid> bids = sBids.get(placementId);
+        if (bids == null) {
+            bids = new ArrayDeque<>();
+            sBids.put(placementId, bids);
+        }
+
+        bids.addLast(new CachedBid(bid, SystemClock.elapsedRealtime() + timeLimit));
+        sSize++;
+
+        if (sSize > MAX_BIDS) {
+            purgeExpired();
+        }
+        while (sSize > MAX_BIDS) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    @Nullable
+    static synchronized Bid get(final String placementId) {
+        final ArrayDeque<CachedBid> bids = placementId != null ? sBids.get(placementId) : null;
+        final long now = SystemClock.elapsedRealtime();
+
+        if (bids != null) {
+            while (!bids.isEmpty()) {
+                final CachedBid cachedBid = bids.pollFirst();
+                sSize--;
+
+                if (!cachedBid.isExpired(now)) {
+                    if (bids.isEmpty()) {
+                        sBids.remove(placementId);
+                    }
+
+                    sHitCount++;
+                    return cachedBid.bid;
+                }
+
+                sExpiredCount++;
+            }
+            sBids.remove(placementId);
+        }
+
+        sMissCount++;
+        MoPubLog.log(placementId, CUSTOM, ADAPTER_NAME, "No cached bid. Hits: " + sHitCount +
+                ", misses: " + sMissCount + ", expired: " + sExpiredCount + ", evicted: " +
+                sEvictedCount);
+        return null;
+    }
+
+    private static synchronized void purgeExpired() {
+        final long now = SystemClock.elapsedRealtime();
+        final Iterator<Map.Entry<String, ArrayDeque<CachedBid>>> iterator = sBids.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            final ArrayDeque<CachedBid> bids = iterator.next().getValue();
+            final Iterator<CachedBid> bidIterator = bids.iterator();
+
+            while (bidIterator.hasNext()) {
+                if (bidIterator.next().isExpired(now)) {
+                    bidIterator.remove();
+                    sSize--;
+                    sExpiredCount++;
+                }
+            }
+
+            if (bids.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static synchronized void evictLeastRecentlyUsed() {
+        final Iterator<Map.Entry<String, ArrayDeque<CachedBid>>> iterator = sBids.entrySet().iterator();
+        if (!iterator.hasNext()) {
+            sSize = 0;
+            return;
+        }
+
+        final Map.Entry<String, ArrayDeque<CachedBid>> entry = iterator.next();
+        final ArrayDeque<CachedBid> bids = entry.getValue();
+
+        bids.pollFirst();
+        sSize--;
+        sEvictedCount++;
 
-        final long timeLimit = Configuration.getInt(DOMAIN, CACHE_TIMEOUT_KEY, TEN_MINUTES_MILLIS);
+        if (bids.isEmpty()) {
+            iterator.remove();
+        }
 
-        bidTimedMemoryCache.add(placementId, bid, timeLimit);
+        MoPubLog.log(entry.getKey(), CUSTOM, ADAPTER_NAME, "Evicted a cached bid because the " +
+                "cache is full");
     }
 
-    static Bid get(final String placementId) {
-        return bidTimedMemoryCache.get(placementId);
+    private static synchronized void clear() {
+        sEvictedCount += sSize;
+        sBids.clear();
+        sSize = 0;
     }
 }
@@ -25,6 +25,7 @@ import com.verizon.ads.Logger;
 import com.verizon.ads.VASAds;
 import com.verizon.ads.utils.ThreadUtils;
 
+import java.util.ArrayDeque;
 import java.util.Map;
 
 public class VerizonAdapterConfiguration extends BaseAdapterConfiguration {
@@ -33,6 +34,28 @@ public class VerizonAdapterConfiguration extends BaseAdapterConfiguration {
 
     private static final Handler handler = new Handler(Looper.getMainLooper());
 
+    // Runnables waiting for the main thread, in posting order. Guarded by itself.
+    private static final ArrayDeque<Runnable> pendingUiRunnables = new ArrayDeque<>();
+    // Guarded by pendingUiRunnables.
+    private static boolean isUiDrainPosted;
+
+    private static final Runnable drainUiRunnables = new Runnable() {
+        @Override
+        public void run() {
+            while (true) {
+                final Runnable runnable;
+                synchronized (pendingUiRunnables) {
+                    runnable = pendingUiRunnables.pollFirst();
+                    if (runnable == null) {
+                        isUiDrainPosted = false;
+                        return;
+                    }
+                }
+                runnable.run();
+            }
+        }
+    };
+
     public static final String MEDIATOR_ID = "MoPubVAS-" + ADAPTER_VERSION;
     public static final String SERVER_EXTRAS_AD_CONTENT_KEY = "adm";
     public static final String VAS_SITE_ID_KEY = "siteId";
@@ -122,8 +145,24 @@ public class VerizonAdapterConfiguration extends BaseAdapterConfiguration {
         });
     }
 
+    /**
+     * Runs the given runnable on the main thread after the current message. Runnables posted in a
+     * burst, e.g. several ad callbacks in a row, share a single main-thread message and run in the
+     * order they were posted.
+     */
     public static void postOnUiThread(final Runnable runnable) {
-        handler.post(runnable);
+        if (runnable == null) {
+            return;
+        }
+
+        synchronized (pendingUiRunnables) {
+            pendingUiRunnables.offerLast(runnable);
+
+            if (!isUiDrainPosted) {
+                isUiDrainPosted = true;
+                handler.post(drainUiRunnables);
+            }
+        }
     }
 
     static MoPubErrorCode convertErrorInfoToMoPub(final ErrorInfo errorInfo) {
@@ -219,6 +219,8 @@ public class VerizonBanner extends BaseAd {
             return;
         }
 
+        BidCache.registerMemoryCallbacks(context);
+
         final RequestMetadata.Builder builder = new RequestMetadata.Builder(requestMetadata);
         final RequestMetadata actualRequestMetadata = builder
                 .setMediator(VerizonAdapterConfiguration.MEDIATOR_ID)
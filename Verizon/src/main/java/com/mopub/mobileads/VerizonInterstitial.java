@@ -164,6 +164,8 @@ public class VerizonInterstitial extends BaseAd {
             return;
         }
 
+        BidCache.registerMemoryCallbacks(context);
+
         final RequestMetadata.Builder builder = new RequestMetadata.Builder(requestMetadata);
         final RequestMetadata actualRequestMetadata = builder.setMediator(VerizonAdapterConfiguration.MEDIATOR_ID).build();
 
@@ -6,6 +6,7 @@ import android.content.Context;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
@@ -233,38 +234,36 @@ public class VerizonNative extends CustomEventNative {
                 return;
             }
 
-            verizonStaticNativeAd.setTitle(parseTextComponent("title", nativeAd));
-            verizonStaticNativeAd.setText(parseTextComponent("body", nativeAd));
-            verizonStaticNativeAd.setCallToAction(parseTextComponent("callToAction", nativeAd));
-            verizonStaticNativeAd.setSponsored(parseURLComponent("disclaimer", nativeAd));
-            verizonStaticNativeAd.setMainImageUrl(parseURLComponent("mainImage", nativeAd));
-            verizonStaticNativeAd.setIconImageUrl(parseURLComponent("iconImage", nativeAd));
-
-            final String ratingString = parseTextComponent("rating", nativeAd);
-
-            if (!TextUtils.isEmpty(ratingString)) {
-                final String[] ratingArray = ratingString.trim().split("\\s+");
-
-                if (ratingArray.length > 0) {
-                    try {
-                        final Double rating = Double.parseDouble(ratingArray[0]);
-
-                        verizonStaticNativeAd.setStarRating(rating);
-                        verizonStaticNativeAd.addExtra(COMP_ID_RATING, ratingArray[0]);
-                    } catch (NumberFormatException e) {
-                        MoPubLog.log(CUSTOM_WITH_THROWABLE, ADAPTER_NAME, "Exception occurred" +
-                                " while parsing Verizon's native ad rating.", e);
-                    }
+            // Each component is fetched from the ad once, even when more than one of its fields
+            // is used.
+            final JSONObject disclaimerData = getComponentData("disclaimer", nativeAd);
+
+            verizonStaticNativeAd.setTitle(getValue(getComponentData("title", nativeAd)));
+            verizonStaticNativeAd.setText(getValue(getComponentData("body", nativeAd)));
+            verizonStaticNativeAd.setCallToAction(getValue(getComponentData("callToAction", nativeAd)));
+            verizonStaticNativeAd.setSponsored(getUrl(disclaimerData));
+            verizonStaticNativeAd.setMainImageUrl(getUrl(getComponentData("mainImage", nativeAd)));
+            verizonStaticNativeAd.setIconImageUrl(getUrl(getComponentData("iconImage", nativeAd)));
+
+            final String rating = getFirstToken(getValue(getComponentData("rating", nativeAd)));
+
+            if (!TextUtils.isEmpty(rating)) {
+                try {
+                    verizonStaticNativeAd.setStarRating(Double.parseDouble(rating));
+                    verizonStaticNativeAd.addExtra(COMP_ID_RATING, rating);
+                } catch (NumberFormatException e) {
+                    MoPubLog.log(CUSTOM_WITH_THROWABLE, ADAPTER_NAME, "Exception occurred" +
+                            " while parsing Verizon's native ad rating.", e);
                 }
             }
 
-            final String disclaimer = parseTextComponent("disclaimer", nativeAd);
+            final String disclaimer = getValue(disclaimerData);
 
             if (!TextUtils.isEmpty(disclaimer)) {
                 verizonStaticNativeAd.addExtra(COMP_ID_DISCLAIMER, disclaimer);
             }
 
-            final String videoURL = parseURLComponent("video", nativeAd);
+            final String videoURL = getUrl(getComponentData("video", nativeAd));
 
             if (!TextUtils.isEmpty(videoURL)) {
                 verizonStaticNativeAd.addExtra(COMP_ID_VIDEO, videoURL);
@@ -272,34 +271,53 @@ public class VerizonNative extends CustomEventNative {
         }
     }
 
-    private String parseTextComponent(final String key, final NativeAd nativeAd) {
+    /**
+     * @return the "data" object of the given component, or null if the ad doesn't have it.
+     */
+    @Nullable
+    private JSONObject getComponentData(final String key, final NativeAd nativeAd) {
         final JSONObject jsonObject = nativeAd.getJSON(key);
 
-        if (jsonObject != null) {
-            try {
-                final JSONObject dataObject = jsonObject.getJSONObject("data");
-                return dataObject.optString("value");
-            } catch (Exception e) {
-                MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Unable to parse " + key);
-            }
+        if (jsonObject == null) {
+            return null;
         }
 
-        return null;
+        final JSONObject dataObject = jsonObject.optJSONObject("data");
+        if (dataObject == null) {
+            MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Unable to parse " + key);
+        }
+        return dataObject;
     }
 
-    private String parseURLComponent(final String key, final NativeAd nativeAd) {
-        final JSONObject jsonObject = nativeAd.getJSON(key);
+    @Nullable
+    private static String getValue(@Nullable final JSONObject dataObject) {
+        return dataObject != null ? dataObject.optString("value") : null;
+    }
 
-        if (jsonObject != null) {
-            try {
-                final JSONObject dataObject = jsonObject.getJSONObject("data");
-                return dataObject.optString("url");
-            } catch (Exception e) {
-                MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "Unable to parse " + key);
-            }
+    @Nullable
+    private static String getUrl(@Nullable final JSONObject dataObject) {
+        return dataObject != null ? dataObject.optString("url") : null;
+    }
+
+    /**
+     * @return the text up to the first whitespace, ignoring leading whitespace.
+     */
+    @Nullable
+    private static String getFirstToken(@Nullable final String text) {
+        if (text == null) {
+            return null;
         }
 
-        return null;
+        int start = 0;
+        while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+
+        int end = start;
+        while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        return text.substring(start, end);
     }
 
     private static String getAdNetworkId() {
@@ -107,13 +107,13 @@ public class VerizonNativeAdRenderer implements MoPubAdRenderer<VerizonNative.Ve
             disclaimerComponent.prepareView(verizonNativeViewHolder.sponsoredTextView);
         }
 
-        NativeImageHelper.loadImageView(nativeAd.getMainImageUrl(), verizonNativeViewHolder.mainImageView);
+        VerizonImageLoader.loadImageView(nativeAd.getMainImageUrl(), verizonNativeViewHolder.mainImageView);
         NativeViewComponent mainImageComponent = ((NativeViewComponent) nativeAd.getNativeAd().getComponent(context, "mainImage"));
         if (mainImageComponent != null) {
             mainImageComponent.prepareView(verizonNativeViewHolder.mainImageView);
         }
 
-        NativeImageHelper.loadImageView(nativeAd.getIconImageUrl(), verizonNativeViewHolder.iconImageView);
+        VerizonImageLoader.loadImageView(nativeAd.getIconImageUrl(), verizonNativeViewHolder.iconImageView);
         NativeViewComponent iconImageComponent = ((NativeViewComponent) nativeAd.getNativeAd().getComponent(context, "iconImage"));
         if (iconImageComponent != null) {
             iconImageComponent.prepareView(verizonNativeViewHolder.iconImageView);
@@ -1,6 +1,10 @@
 package com.mopub.mobileads;
 
 import android.content.Context;
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
@@ -14,6 +18,7 @@ import com.mopub.mobileads.vungle.BuildConfig;
 import com.vungle.warren.Vungle;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -28,6 +33,9 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
     // Adapter's keys
     private static final String ADAPTER_NAME = VungleAdapterConfiguration.class.getSimpleName();
     private static final String MOPUB_NETWORK_NAME = BuildConfig.NETWORK_NAME;
+    private static final int MAX_TOKEN_SIZE = 1024;
+    private static final long TOKEN_REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final long TOKEN_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
 
     private static VungleRouter sVungleRouter;
     private static String sWithAutoRotate;
@@ -38,6 +46,9 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
     public static final String WITH_AUTO_ROTATE_KEY = "orientations";
 
     private final AtomicReference<String> tokenReference = new AtomicReference<>(null);
+    private final AtomicBoolean isComputingToken = new AtomicBoolean(false);
+    private volatile long tokenTimestamp;
+    private final Handler tokenRefreshHandler = new Handler(Looper.getMainLooper());
 
     public VungleAdapterConfiguration() {
         sVungleRouter = VungleRouter.getInstance();
@@ -52,13 +63,12 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
     @Nullable
     @Override
     public String getBiddingToken(@NonNull Context context) {
-        int maxSize = 1024;
-        final String token = Vungle.getAvailableBidTokensBySize(context, maxSize);
-        if (token != null) {
-            tokenReference.set(token);
-        }
+        Preconditions.checkNotNull(context);
 
-        return tokenReference.get();
+        // The last good token is handed out while a newer one is being fetched, until it expires.
+        refreshBidderToken(context);
+        return SystemClock.elapsedRealtime() - tokenTimestamp < TOKEN_TTL_MILLIS
+                ? tokenReference.get() : null;
     }
 
     @NonNull
@@ -75,9 +85,12 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
 
     @Override
     public void initializeNetwork(@NonNull final Context context, @Nullable final Map<String, String> configuration,
-                                  @NonNull final OnNetworkInitializationFinishedListener listener) {
+                                  @NonNull final OnNetworkInitializationFinishedListener initializationFinishedListener) {
         Preconditions.checkNotNull(context);
-        Preconditions.checkNotNull(listener);
+        Preconditions.checkNotNull(initializationFinishedListener);
+
+        final OnNetworkInitializationFinishedListener listener =
+                new VungleInitializationTimer(initializationFinishedListener);
 
         VungleRouter.getInstance().applyVungleNetworkSettings(configuration);
 
@@ -110,6 +123,7 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
             }
         }
         if (networkInitializationSucceeded) {
+            refreshBidderToken(context);
             listener.onNetworkInitializationFinished(this.getClass(),
                     MoPubErrorCode.ADAPTER_INITIALIZATION_SUCCESS);
         } else {
@@ -121,4 +135,50 @@ public class VungleAdapterConfiguration extends BaseAdapterConfiguration {
     public static String getWithAutoRotate() {
         return sWithAutoRotate;
     }
+
+    /**
+     * Fetches a new bid token in the background once the cached one is due for a refresh.
+     */
+    private void refreshBidderToken(@NonNull final Context context) {
+        if (tokenReference.get() != null &&
+                SystemClock.elapsedRealtime() - tokenTimestamp < TOKEN_REFRESH_INTERVAL_MILLIS) {
+            return;
+        }
+
+        if (isComputingToken.compareAndSet(false, true)) {
+            final Context applicationContext = context.getApplicationContext();
+
+            AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        setBidderToken(Vungle.getAvailableBidTokensBySize(applicationContext,
+                                MAX_TOKEN_SIZE));
+                    } finally {
+                        isComputingToken.set(false);
+                    }
+                    scheduleBidderTokenRefresh(applicationContext);
+                }
+            });
+        }
+    }
+
+    // Renews the token ahead of its expiry even if no auction asks for it in the meantime.
+    private void scheduleBidderTokenRefresh(@NonNull final Context context) {
+        tokenRefreshHandler.removeCallbacksAndMessages(null);
+        tokenRefreshHandler.postDelayed(new Runnable() {
+            @Override
+            public void run() {
+                refreshBidderToken(context);
+            }
+        }, TOKEN_TTL_MILLIS - TOKEN_REFRESH_INTERVAL_MILLIS);
+    }
+
+    private void setBidderToken(@Nullable final String token) {
+        // Vungle hands out an empty token until its initialization completes.
+        if (!TextUtils.isEmpty(token)) {
+            tokenReference.set(token);
+            tokenTimestamp = SystemClock.elapsedRealtime();
+        }
+    }
 }
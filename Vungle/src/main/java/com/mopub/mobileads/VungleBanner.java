@@ -49,6 +49,10 @@ public class VungleBanner extends BaseAd {
     private static final String PLACEMENT_ID_KEY = "pid";
     private static final String PLACEMENT_IDS_KEY = "pids";
 
+    // The sizes Vungle serves for each ad unit format, largest first.
+    private static final AdSize[] MREC_SIZES = {VUNGLE_MREC};
+    private static final AdSize[] BANNER_SIZES = {BANNER_LEADERBOARD, BANNER, BANNER_SHORT};
+
     private static VungleRouter sVungleRouter;
     private final Handler mHandler;
     private String mAppId;
@@ -148,7 +152,7 @@ public class VungleBanner extends BaseAd {
     private AdSize getVungleAdSize(@NonNull final AdData adData) {
         final Map<String, String> extras = adData.getExtras();
 
-        AdSize adSizeType = null;
+        final AdSize adSizeType;
         int adWidthInDp = adData.getAdWidth() != null ? adData.getAdWidth() : 0;
         int adHeightInDp = adData.getAdHeight() != null ? adData.getAdHeight() : 0;
 
@@ -157,19 +161,8 @@ public class VungleBanner extends BaseAd {
             adUnitFormat = adUnitFormat.toLowerCase();
         }
         final boolean isMRECFormat = "medium_rectangle".equals(adUnitFormat);
-        if (isMRECFormat) {
-            if (adWidthInDp >= VUNGLE_MREC.getWidth() && adHeightInDp >= VUNGLE_MREC.getHeight()) {
-                adSizeType = VUNGLE_MREC;
-            }
-        } else {
-            if (adWidthInDp >= BANNER_LEADERBOARD.getWidth() && adHeightInDp >= BANNER_LEADERBOARD.getHeight()) {
-                adSizeType = BANNER_LEADERBOARD;
-            } else if (adWidthInDp >= BANNER.getWidth() && adHeightInDp >= BANNER.getHeight()) {
-                adSizeType = BANNER;
-            } else if (adWidthInDp >= BANNER_SHORT.getWidth() && adHeightInDp >= BANNER_SHORT.getHeight()) {
-                adSizeType = BANNER_SHORT;
-            }
-        }
+        adSizeType = findLargestFit(isMRECFormat ? MREC_SIZES : BANNER_SIZES, adWidthInDp,
+                adHeightInDp);
 
         if (adSizeType == null) {
             MoPubLog.log(CUSTOM, ADAPTER_NAME, "No size found that matches the requested size:" + adWidthInDp
@@ -182,6 +175,20 @@ public class VungleBanner extends BaseAd {
         return adSizeType;
     }
 
+    /**
+     * @return the largest of the sizes, ordered largest first, that fits within the given size.
+     */
+    @Nullable
+    private static AdSize findLargestFit(@NonNull final AdSize[] sizes, final int widthInDp,
+                                         final int heightInDp) {
+        for (final AdSize size : sizes) {
+            if (widthInDp >= size.getWidth() && heightInDp >= size.getHeight()) {
+                return size;
+            }
+        }
+        return null;
+    }
+
     @Override
     protected void onInvalidate() {
         MoPubLog.log(CUSTOM, ADAPTER_NAME, "onInvalidate is called for Placement ID:" + mPlacementId);
@@ -194,7 +201,7 @@ public class VungleBanner extends BaseAd {
         }
 
         if (sVungleRouter != null) {
-            sVungleRouter.removeRouterListener(mPlacementId);
+            sVungleRouter.removeRouterListener(mPlacementId, mAdMarkup, mVungleRouterListener);
         }
 
         mVungleRouterListener = null;
@@ -266,7 +273,7 @@ public class VungleBanner extends BaseAd {
             if (mPlacementId.equals(placementId)) {
                 MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "onAdEnd placement id: " + placementId);
                 mIsPlaying = false;
-                sVungleRouter.removeRouterListener(mPlacementId);
+                sVungleRouter.removeRouterListener(mPlacementId, mAdMarkup, this);
                 mVungleRouterListener = null;
             }
         }
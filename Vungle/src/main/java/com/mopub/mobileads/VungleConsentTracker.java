@@ -0,0 +1,107 @@
+package com.mopub.mobileads;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.MoPub;
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.privacy.ConsentStatus;
+import com.mopub.common.privacy.ConsentStatusChangeListener;
+import com.mopub.common.privacy.PersonalInfoManager;
+import com.vungle.warren.Vungle;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
+
+/** Passes the user consent from the MoPub SDK to Vungle as per GDPR, only when it changes. */
+final class VungleConsentTracker {
+    private static final String ADAPTER_NAME = VungleConsentTracker.class.getSimpleName();
+
+    private static volatile boolean sIsSettled;
+    private static volatile boolean sAllowedLegitimateInterest;
+
+    // Guarded by VungleConsentTracker.class.
+    private static boolean sIsListening;
+    @Nullable
+    private static Vungle.Consent sConsent;
+
+    private static final ConsentStatusChangeListener sConsentStatusChangeListener =
+            new ConsentStatusChangeListener() {
+                @Override
+                public void onConsentStateChange(@NonNull ConsentStatus oldConsentStatus,
+                                                 @NonNull ConsentStatus newConsentStatus,
+                                                 boolean canCollectPersonalInformation) {
+                    synchronized (VungleConsentTracker.class) {
+                        final PersonalInfoManager personalInfoManager =
+                                MoPub.getPersonalInformationManager();
+                        if (personalInfoManager != null && Vungle.isInitialized()) {
+                            pushIfChanged(personalInfoManager);
+                        }
+                    }
+                }
+            };
+
+    private VungleConsentTracker() {
+    }
+
+    /**
+     * Makes sure Vungle has the current user consent. Must only be called once Vungle is initialized.
+     */
+    static void update() {
+        if (sIsSettled && sAllowedLegitimateInterest == MoPub.shouldAllowLegitimateInterest()) {
+            return;
+        }
+
+        synchronized (VungleConsentTracker.class) {
+            final PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
+            if (personalInfoManager == null) {
+                return;
+            }
+
+            if (!sIsListening) {
+                personalInfoManager.subscribeConsentStatusChangeListener(sConsentStatusChangeListener);
+                sIsListening = true;
+            }
+
+            pushIfChanged(personalInfoManager);
+
+            // Whether GDPR applies isn't reported as a consent change, so keep checking on every
+            // load until the MoPub SDK knows.
+            sIsSettled = personalInfoManager.gdprApplies() != null;
+        }
+    }
+
+    // Must hold VungleConsentTracker.class.
+    private static void pushIfChanged(@NonNull final PersonalInfoManager personalInfoManager) {
+        final boolean shouldAllowLegitimateInterest = MoPub.shouldAllowLegitimateInterest();
+        sAllowedLegitimateInterest = shouldAllowLegitimateInterest;
+
+        if (personalInfoManager.gdprApplies() != Boolean.TRUE) {
+            return;
+        }
+
+        final Vungle.Consent consent;
+        if (shouldAllowLegitimateInterest) {
+            final ConsentStatus consentStatus = personalInfoManager.getPersonalInfoConsentStatus();
+            if (consentStatus == ConsentStatus.EXPLICIT_NO
+                    || consentStatus == ConsentStatus.DNT
+                    || consentStatus == ConsentStatus.POTENTIAL_WHITELIST) {
+                consent = Vungle.Consent.OPTED_OUT;
+            } else {
+                consent = Vungle.Consent.OPTED_IN;
+            }
+        } else {
+            consent = MoPub.canCollectPersonalInformation() ? Vungle.Consent.OPTED_IN :
+                    Vungle.Consent.OPTED_OUT;
+        }
+
+        if (consent == sConsent) {
+            return;
+        }
+
+        // Pass consentMessageVersion per Vungle 6.3.17:
+        // https://support.vungle.com/hc/en-us/articles/360002922871#GDPRRecommendedImplementationInstructions
+        Vungle.updateConsentStatus(consent, "");
+        sConsent = consent;
+        MoPubLog.log(CUSTOM, ADAPTER_NAME, "Passed user consent to Vungle: " + consent);
+    }
+}
@@ -116,7 +116,7 @@ public class VungleInterstitial extends BaseAd {
     protected void onInvalidate() {
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME,
                 "onInvalidate is called for Placement ID:" + mPlacementId);
-        sVungleRouter.removeRouterListener(mPlacementId);
+        sVungleRouter.removeRouterListener(mPlacementId, mAdMarkup, mVungleRouterListener);
         mVungleRouterListener = null;
         mAdConfig = null;
         mAdMarkup = null;
@@ -193,7 +193,7 @@ public class VungleInterstitial extends BaseAd {
                         }
                     }
                 });
-                sVungleRouter.removeRouterListener(mPlacementId);
+                sVungleRouter.removeRouterListener(mPlacementId, mAdMarkup, this);
             }
         }
 
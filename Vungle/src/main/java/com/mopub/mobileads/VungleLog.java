@@ -0,0 +1,47 @@
+package com.mopub.mobileads;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mopub.common.logging.MoPubLog;
+import com.mopub.common.logging.MoPubLog.AdapterLogEvent;
+
+import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
+
+/**
+ * Logs through {@link MoPubLog} from the hot paths of the Vungle adapters, only building the
+ * message once the event is known to be logged at the current log level. Messages are a fixed
+ * prefix and the value to append to it, so a call that isn't logged allocates nothing.
+ * <p>
+ * Only the global log level is checked, as {@link MoPubLog} doesn't expose the levels of loggers
+ * added with {@link MoPubLog#addLogger}. Those loggers miss these messages while the global level
+ * is above the event's own.
+ */
+final class VungleLog {
+
+    private VungleLog() {
+    }
+
+    /**
+     * @return whether the event would be logged at the global log level.
+     */
+    static boolean isLoggable(@NonNull final AdapterLogEvent event) {
+        return event.getLogLevel().intValue() >= MoPubLog.getLogLevel().intValue();
+    }
+
+    static void log(@Nullable final String adNetworkId, @NonNull final AdapterLogEvent event,
+                    @NonNull final String adapterName, @NonNull final String message,
+                    @Nullable final Object value) {
+        if (isLoggable(event)) {
+            MoPubLog.log(adNetworkId, event, adapterName, message + value);
+        }
+    }
+
+    static void logWithThrowable(@Nullable final String adNetworkId, @NonNull final String adapterName,
+                                 @NonNull final String message, @Nullable final Object value,
+                                 @NonNull final Throwable throwable) {
+        if (isLoggable(CUSTOM_WITH_THROWABLE)) {
+            MoPubLog.log(adNetworkId, CUSTOM_WITH_THROWABLE, adapterName, message + value, throwable);
+        }
+    }
+}
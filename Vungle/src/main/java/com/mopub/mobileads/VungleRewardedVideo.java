@@ -169,7 +169,7 @@ public class VungleRewardedVideo extends BaseAd {
     protected void onInvalidate() {
         MoPubLog.log(getAdNetworkId(), CUSTOM, ADAPTER_NAME, "onInvalidate is called for Placement ID:" +
                 mPlacementId);
-        sVungleRouter.removeRouterListener(mPlacementId);
+        sVungleRouter.removeRouterListener(mPlacementId, mAdMarkup, mVungleRewardedRouterListener);
         mVungleRewardedRouterListener = null;
         mAdMarkup = null;
     }
@@ -258,7 +258,7 @@ public class VungleRewardedVideo extends BaseAd {
                     mInteractionListener.onAdDismissed();
                 }
 
-                sVungleRouter.removeRouterListener(mPlacementId);
+                sVungleRouter.removeRouterListener(mPlacementId, mAdMarkup, this);
             }
         }
 
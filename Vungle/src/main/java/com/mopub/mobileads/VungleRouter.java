@@ -8,11 +8,8 @@ import androidx.annotation.Nullable;
 
 import com.mopub.common.BaseLifecycleListener;
 import com.mopub.common.LifecycleListener;
-import com.mopub.common.MoPub;
 import com.mopub.common.Preconditions;
 import com.mopub.common.logging.MoPubLog;
-import com.mopub.common.privacy.ConsentStatus;
-import com.mopub.common.privacy.PersonalInfoManager;
 import com.vungle.warren.AdConfig;
 import com.vungle.warren.AdConfig.AdSize;
 import com.vungle.warren.Banners;
@@ -27,8 +24,15 @@ import com.vungle.warren.VungleBanner;
 import com.vungle.warren.VungleSettings;
 import com.vungle.warren.error.VungleException;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM;
 import static com.mopub.common.logging.MoPubLog.AdapterLogEvent.CUSTOM_WITH_THROWABLE;
@@ -62,9 +66,18 @@ public class VungleRouter {
         }
     };
     private static final VungleRouter sInstance = new VungleRouter();
-    private static SDKInitState sInitState = SDKInitState.NOTINITIALIZED;
-    private final static Map<String, VungleRouterListener> sVungleRouterListeners = new HashMap<>();
-    private final static Map<AdRequest, VungleRouterListener> sWaitingList = new HashMap<>();
+    private static volatile SDKInitState sInitState = SDKInitState.NOTINITIALIZED;
+
+    // Listeners and loads are keyed by placement ID first, then by (placement ID, ad markup), so
+    // several bids on the same placement can be in flight at once. Non-bidding ads of a placement
+    // share a key, so every key holds all of its listeners, and its loads oldest first. Bid markup
+    // is unique to one ad, so only bid keys are dropped once emptied; the rest stay for reuse.
+    private final static ConcurrentHashMap<String, ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<VungleRouterListener>>>
+            sVungleRouterListeners = new ConcurrentHashMap<>();
+    private final static ConcurrentHashMap<String, ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<PendingAdRequest>>>
+            sLoadingRequests = new ConcurrentHashMap<>();
+    private final static ConcurrentLinkedQueue<PendingAdRequest> sWaitingList = new ConcurrentLinkedQueue<>();
+    private final static ConcurrentHashMap<String, AdRequest> sPlayingRequests = new ConcurrentHashMap<>();
 
     private static class AdRequest {
         @NonNull
@@ -101,12 +114,41 @@ public class VungleRouter {
         }
     }
 
+    private static class PendingAdRequest {
+        private static final AtomicLong sRequestCount = new AtomicLong();
+
+        @NonNull
+        private final AdRequest request;
+        @NonNull
+        private final VungleRouterListener listener;
+        @Nullable
+        private final AdConfig adConfig;
+        @Nullable
+        private final AdSize bannerAdSize;
+        private final long order = sRequestCount.getAndIncrement();
+
+        PendingAdRequest(@NonNull AdRequest request, @NonNull VungleRouterListener listener,
+                         @Nullable AdConfig adConfig, @Nullable AdSize bannerAdSize) {
+            this.request = request;
+            this.listener = listener;
+            this.adConfig = adConfig;
+            this.bannerAdSize = bannerAdSize;
+        }
+    }
+
     private enum SDKInitState {
         NOTINITIALIZED,
         INITIALIZING,
         INITIALIZED
     }
 
+    private enum LoadMatch {
+        PLAYABLE,
+        NOT_PLAYABLE,
+        NO_MARKUP,
+        ANY
+    }
+
     private VungleRouter() {
         Plugin.addWrapperInfo(VungleApiClient.WrapperFramework.mopub,
                 VungleAdapterConfiguration.ADAPTER_VERSION.replace('.', '_'));
@@ -134,30 +176,7 @@ public class VungleRouter {
 
                 clearWaitingList();
 
-                // Pass the user consent from the MoPub SDK to Vungle as per GDPR
-                PersonalInfoManager personalInfoManager = MoPub.getPersonalInformationManager();
-
-                boolean canCollectPersonalInfo = MoPub.canCollectPersonalInformation();
-                boolean shouldAllowLegitimateInterest = MoPub.shouldAllowLegitimateInterest();
-
-                if (personalInfoManager != null && personalInfoManager.gdprApplies() == Boolean.TRUE) {
-                    if (shouldAllowLegitimateInterest) {
-                        if (personalInfoManager.getPersonalInfoConsentStatus() == ConsentStatus.EXPLICIT_NO
-                                || personalInfoManager.getPersonalInfoConsentStatus() == ConsentStatus.DNT
-                                || personalInfoManager.getPersonalInfoConsentStatus() ==
-                                ConsentStatus.POTENTIAL_WHITELIST) {
-                            Vungle.updateConsentStatus(Vungle.Consent.OPTED_OUT, "");
-                        } else {
-                            Vungle.updateConsentStatus(Vungle.Consent.OPTED_IN, "");
-                        }
-                    } else {
-                        // Pass consentMessageVersion per Vungle 6.3.17:
-                        // https://support.vungle.com/hc/en-us/articles/360002922871#GDPRRecommendedImplementationInstructions
-                        Vungle.updateConsentStatus(canCollectPersonalInfo ? Vungle.Consent.OPTED_IN :
-                                Vungle.Consent.OPTED_OUT, "");
-                    }
-                }
-
+                VungleConsentTracker.update();
             }
 
             @Override
@@ -175,9 +194,9 @@ public class VungleRouter {
 
         VungleSettings vungleSettings = VungleNetworkSettings.getVungleSettings();
         VungleSettings settings = (vungleSettings != null) ? vungleSettings : new VungleSettings.Builder().build();
-        Vungle.init(vungleAppId, context.getApplicationContext(), initCallback, settings);
-
         sInitState = SDKInitState.INITIALIZING;
+
+        Vungle.init(vungleAppId, context.getApplicationContext(), initCallback, settings);
     }
 
     void setIncentivizedFields(String userID, String title, String body,
@@ -204,12 +223,12 @@ public class VungleRouter {
                         "initialization starts. This is not an expect case.");
                 break;
             case INITIALIZING:
-                final AdRequest adRequest = new AdRequest(placementId, adMarkup);
-                sWaitingList.put(adRequest, routerListener);
+                addToWaitingList(new PendingAdRequest(new AdRequest(placementId, adMarkup),
+                        routerListener, adConfig, null));
                 break;
             case INITIALIZED:
-                addRouterListener(placementId, routerListener);
-                Vungle.loadAd(placementId, adMarkup, adConfig, loadAdCallback);
+                loadAd(new PendingAdRequest(new AdRequest(placementId, adMarkup),
+                        routerListener, adConfig, null));
                 break;
         }
     }
@@ -223,33 +242,84 @@ public class VungleRouter {
                 break;
 
             case INITIALIZING:
-                AdRequest adRequest = new AdRequest(placementId, adMarkup);
-                sWaitingList.put(adRequest, routerListener);
+                addToWaitingList(new PendingAdRequest(new AdRequest(placementId, adMarkup),
+                        routerListener, null, adSize));
                 break;
 
             case INITIALIZED:
-                addRouterListener(placementId, routerListener);
-                Banners.loadBanner(placementId, adMarkup, new BannerAdConfig(adSize), loadAdCallback);
+                loadAd(new PendingAdRequest(new AdRequest(placementId, adMarkup),
+                        routerListener, null, adSize));
                 break;
         }
     }
 
-    void addRouterListener(String placementId, VungleRouterListener routerListener) {
-        if (sVungleRouterListeners.containsKey(placementId) &&
-                sVungleRouterListeners.get(placementId) == routerListener) {
-            return;
+    private void loadAd(@NonNull PendingAdRequest pendingAdRequest) {
+        final AdRequest request = pendingAdRequest.request;
+
+        VungleConsentTracker.update();
+        addToQueue(sVungleRouterListeners, request, pendingAdRequest.listener);
+        addToQueue(sLoadingRequests, request, pendingAdRequest);
+
+        if (pendingAdRequest.bannerAdSize != null) {
+            Banners.loadBanner(request.placementId, request.adMarkup,
+                    new BannerAdConfig(pendingAdRequest.bannerAdSize), loadAdCallback);
+        } else {
+            Vungle.loadAd(request.placementId, request.adMarkup, pendingAdRequest.adConfig, loadAdCallback);
         }
-        sVungleRouterListeners.put(placementId, routerListener);
     }
 
-    void removeRouterListener(String placementId) {
-        if (!sVungleRouterListeners.containsKey(placementId)) {
+    private void addToWaitingList(@NonNull PendingAdRequest pendingAdRequest) {
+        sWaitingList.add(pendingAdRequest);
+
+        // Initialization may have finished between reading the state and adding to the waiting
+        // list, in which case nobody else is going to drain it.
+        if (sInitState == SDKInitState.INITIALIZED) {
+            clearWaitingList();
+        }
+    }
+
+    /**
+     * Removes the listener and whatever it still has waiting or loading. Other ads that share the
+     * same placement and ad markup keep theirs.
+     */
+    void removeRouterListener(@NonNull String placementId, @Nullable String adMarkup,
+                              @Nullable VungleRouterListener routerListener) {
+        if (routerListener == null) {
             return;
         }
-        sVungleRouterListeners.remove(placementId);
+
+        final AdRequest request = new AdRequest(placementId, adMarkup);
+        final Iterator<PendingAdRequest> iterator = sWaitingList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().listener == routerListener) {
+                iterator.remove();
+            }
+        }
+
+        final ConcurrentLinkedQueue<PendingAdRequest> loads = getQueue(sLoadingRequests, request);
+        if (loads != null) {
+            for (final PendingAdRequest pendingAdRequest : loads) {
+                if (pendingAdRequest.listener == routerListener) {
+                    removeFromQueue(sLoadingRequests, request, loads, pendingAdRequest);
+                }
+            }
+        }
+
+        final ConcurrentLinkedQueue<VungleRouterListener> listeners = getQueue(sVungleRouterListeners, request);
+        if (listeners == null) {
+            return;
+        }
+        boolean removed = false;
+        while (removeFromQueue(sVungleRouterListeners, request, listeners, routerListener)) {
+            removed = true;
+        }
+        if (removed && listeners.isEmpty()) {
+            sPlayingRequests.remove(placementId, request);
+        }
     }
 
     void playAdForPlacement(String placementId, @Nullable String adMarkup, AdConfig adConfig) {
+        sPlayingRequests.put(placementId, new AdRequest(placementId, adMarkup));
         Vungle.playAd(placementId, adMarkup, adConfig, playAdCallback);
     }
 
@@ -258,6 +328,7 @@ public class VungleRouter {
         Preconditions.checkNotNull(placementId);
         Preconditions.checkNotNull(adConfig);
 
+        sPlayingRequests.put(placementId, new AdRequest(placementId, adMarkup));
         return Banners.getBanner(placementId, adMarkup, adConfig, playAdCallback);
     }
 
@@ -282,14 +353,147 @@ public class VungleRouter {
         return Vungle.getConsentStatus();
     }
 
+    /**
+     * Loads every request that arrived while the SDK was initializing. Each request is polled off
+     * the waiting list once, so requests added concurrently are either picked up here or by their
+     * own caller.
+     */
     private void clearWaitingList() {
-        for (final Map.Entry<AdRequest, VungleRouterListener> entry : sWaitingList.entrySet()) {
-            AdRequest request = entry.getKey();
-            Vungle.loadAd(request.placementId, request.adMarkup, null, loadAdCallback);
-            sVungleRouterListeners.put(request.placementId, entry.getValue());
+        PendingAdRequest pendingAdRequest;
+        while ((pendingAdRequest = sWaitingList.poll()) != null) {
+            loadAd(pendingAdRequest);
+        }
+    }
+
+    @Nullable
+    private static <T> ConcurrentLinkedQueue<T> getQueue(
+            @NonNull ConcurrentHashMap<String, ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<T>>> queues,
+            @NonNull AdRequest request) {
+        final ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<T>> placementQueues =
+                queues.get(request.placementId);
+        return placementQueues != null ? placementQueues.get(request) : null;
+    }
+
+    private static <T> void addToQueue(
+            @NonNull ConcurrentHashMap<String, ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<T>>> queues,
+            @NonNull AdRequest request, @NonNull T item) {
+        // Per-placement maps are never removed, so an add never lands in a map that was unlinked.
+        ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<T>> placementQueues = queues.get(request.placementId);
+        if (placementQueues == null) {
+            final ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<T>> newPlacementQueues =
+                    new ConcurrentHashMap<>();
+            placementQueues = queues.putIfAbsent(request.placementId, newPlacementQueues);
+            if (placementQueues == null) {
+                placementQueues = newPlacementQueues;
+            }
+        }
+
+        ConcurrentLinkedQueue<T> queue = placementQueues.get(request);
+        if (queue == null) {
+            final ConcurrentLinkedQueue<T> newQueue = new ConcurrentLinkedQueue<>();
+            queue = placementQueues.putIfAbsent(request, newQueue);
+            if (queue == null) {
+                queue = newQueue;
+            }
+        }
+        queue.add(item);
+    }
+
+    private static <T> boolean removeFromQueue(
+            @NonNull ConcurrentHashMap<String, ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<T>>> queues,
+            @NonNull AdRequest request, @NonNull ConcurrentLinkedQueue<T> queue, @NonNull T item) {
+        if (!queue.remove(item)) {
+            return false;
+        }
+        if (request.adMarkup != null && queue.isEmpty()) {
+            final ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<T>> placementQueues =
+                    queues.get(request.placementId);
+            if (placementQueues != null) {
+                placementQueues.remove(request, queue);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes the oldest load of the placement that matches out of the loading requests, or returns
+     * null if there is none.
+     */
+    @Nullable
+    private static PendingAdRequest pollOldestLoad(@NonNull String placementId, @NonNull LoadMatch match) {
+        final ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<PendingAdRequest>> placementLoads =
+                sLoadingRequests.get(placementId);
+        if (placementLoads == null) {
+            return null;
+        }
+
+        while (true) {
+            // Loads sharing a key are all playable or not, so only the oldest of each is checked.
+            PendingAdRequest oldest = null;
+            ConcurrentLinkedQueue<PendingAdRequest> oldestQueue = null;
+            for (final ConcurrentLinkedQueue<PendingAdRequest> loads : placementLoads.values()) {
+                final PendingAdRequest candidate = loads.peek();
+                if (candidate != null && (oldest == null || candidate.order < oldest.order)
+                        && matches(candidate, match)) {
+                    oldest = candidate;
+                    oldestQueue = loads;
+                }
+            }
+
+            // Retry if another callback took it in the meantime.
+            if (oldest == null
+                    || removeFromQueue(sLoadingRequests, oldest.request, oldestQueue, oldest)) {
+                return oldest;
+            }
         }
+    }
 
-        sWaitingList.clear();
+    private static boolean matches(@NonNull PendingAdRequest pendingAdRequest, @NonNull LoadMatch match) {
+        switch (match) {
+            case PLAYABLE:
+                return canPlayAd(pendingAdRequest);
+            case NOT_PLAYABLE:
+                return !canPlayAd(pendingAdRequest);
+            case NO_MARKUP:
+                return pendingAdRequest.request.adMarkup == null;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Returns the listeners of the ad currently playing for the placement, or every listener of the
+     * placement if the playing ad is unknown.
+     */
+    @NonNull
+    private static Collection<VungleRouterListener> getPlayListeners(@NonNull String placementId) {
+        final ConcurrentHashMap<AdRequest, ConcurrentLinkedQueue<VungleRouterListener>> listeners =
+                sVungleRouterListeners.get(placementId);
+        if (listeners == null) {
+            return Collections.emptyList();
+        }
+
+        final AdRequest playingRequest = sPlayingRequests.get(placementId);
+        if (playingRequest != null) {
+            final ConcurrentLinkedQueue<VungleRouterListener> playingListeners = listeners.get(playingRequest);
+            if (playingListeners != null && !playingListeners.isEmpty()) {
+                return playingListeners;
+            }
+        }
+
+        final List<VungleRouterListener> allListeners = new ArrayList<>();
+        for (final ConcurrentLinkedQueue<VungleRouterListener> requestListeners : listeners.values()) {
+            allListeners.addAll(requestListeners);
+        }
+        return allListeners;
+    }
+
+    private static boolean canPlayAd(@NonNull PendingAdRequest pendingAdRequest) {
+        final AdRequest request = pendingAdRequest.request;
+        if (pendingAdRequest.bannerAdSize != null) {
+            return Banners.canPlayAd(request.placementId, request.adMarkup, pendingAdRequest.bannerAdSize);
+        }
+        return Vungle.canPlayAd(request.placementId, request.adMarkup);
     }
 
     private final PlayAdCallback playAdCallback = new PlayAdCallback() {
@@ -301,50 +505,55 @@ public class VungleRouter {
 
         @Override
         public void onAdEnd(String id) {
-            MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdEnd - Placement ID: " + id);
-            VungleRouterListener targetListener = sVungleRouterListeners.get(id);
-            if (targetListener != null) {
+            VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdEnd - Placement ID: ", id);
+            final Collection<VungleRouterListener> targetListeners = getPlayListeners(id);
+            for (final VungleRouterListener targetListener : targetListeners) {
                 targetListener.onAdEnd(id);
-            } else {
-                MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdEnd - VungleRouterListener is not found for " +
-                        "Placement ID: " + id);
+            }
+            if (targetListeners.isEmpty()) {
+                VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdEnd - VungleRouterListener is not found for " +
+                        "Placement ID: ", id);
             }
         }
 
         @Override
         public void onAdClick(String id) {
-            MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdClick - Placement ID: " + id);
-            VungleRouterListener targetListener = sVungleRouterListeners.get(id);
-            if (targetListener != null) {
+            VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdClick - Placement ID: ", id);
+            final Collection<VungleRouterListener> targetListeners = getPlayListeners(id);
+            for (final VungleRouterListener targetListener : targetListeners) {
                 targetListener.onAdClick(id);
-            } else {
-                MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdClick - VungleRouterListener is not found for " +
-                        "Placement ID: " + id);
+            }
+            if (targetListeners.isEmpty()) {
+                VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdClick - VungleRouterListener is not found for " +
+                        "Placement ID: ", id);
             }
         }
 
         @Override
         public void onAdRewarded(String id) {
-            MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdRewarded - Placement ID: " + id);
-            final VungleRouterListener targetListener = sVungleRouterListeners.get(id);
+            VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdRewarded - Placement ID: ", id);
+            final Collection<VungleRouterListener> targetListeners = getPlayListeners(id);
 
-            if (targetListener != null) {
+            for (final VungleRouterListener targetListener : targetListeners) {
                 targetListener.onAdRewarded(id);
-            } else {
-                MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdRewarded - VungleRouterListener is not found for " +
-                        "Placement ID: " + id);
+            }
+
+            if (targetListeners.isEmpty()) {
+                VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdRewarded - VungleRouterListener is not found for " +
+                        "Placement ID: ", id);
             }
         }
 
         @Override
         public void onAdLeftApplication(String id) {
-            MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdLeftApplication - Placement ID: " + id);
-            final VungleRouterListener targetListener = sVungleRouterListeners.get(id);
-            if (targetListener != null) {
+            VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdLeftApplication - Placement ID: ", id);
+            final Collection<VungleRouterListener> targetListeners = getPlayListeners(id);
+            for (final VungleRouterListener targetListener : targetListeners) {
                 targetListener.onAdLeftApplication(id);
-            } else {
-                MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdLeftApplication - VungleRouterListener is not found for " +
-                        "Placement ID: " + id);
+            }
+            if (targetListeners.isEmpty()) {
+                VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdLeftApplication - VungleRouterListener is not found for " +
+                        "Placement ID: ", id);
             }
         }
 
@@ -355,69 +564,83 @@ public class VungleRouter {
 
         @Override
         public void onAdStart(String id) {
-            MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdStart - Placement ID: " + id);
+            VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdStart - Placement ID: ", id);
 
-            VungleRouterListener targetListener = sVungleRouterListeners.get(id);
-            if (targetListener != null) {
+            final Collection<VungleRouterListener> targetListeners = getPlayListeners(id);
+            for (final VungleRouterListener targetListener : targetListeners) {
                 targetListener.onAdStart(id);
-            } else {
-                MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdStart - VungleRouterListener is not found for " +
-                        "Placement ID: " + id);
+            }
+            if (targetListeners.isEmpty()) {
+                VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdStart - VungleRouterListener is not found for " +
+                        "Placement ID: ", id);
             }
         }
 
         @Override
         public void onError(String id, VungleException error) {
-            MoPubLog.log(id, CUSTOM_WITH_THROWABLE, ADAPTER_NAME, "onPlayAdError - Placement ID: " + id, error);
+            VungleLog.logWithThrowable(id, ADAPTER_NAME, "onPlayAdError - Placement ID: ", id, error);
 
-            final VungleRouterListener targetListener = sVungleRouterListeners.get(id);
-            if (targetListener != null) {
+            final Collection<VungleRouterListener> targetListeners = getPlayListeners(id);
+            for (final VungleRouterListener targetListener : targetListeners) {
                 targetListener.onAdPlayError(id, error);
-            } else {
-                MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onUnableToPlayAd - VungleRouterListener is not found " +
-                        "for Placement ID: " + id);
+            }
+            if (targetListeners.isEmpty()) {
+                VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onUnableToPlayAd - VungleRouterListener is not found " +
+                        "for Placement ID: ", id);
             }
         }
 
         @Override
         public void onAdViewed(String id) {
-            MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdViewed - Placement ID: " + id);
+            VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdViewed - Placement ID: ", id);
 
-            VungleRouterListener targetListener = sVungleRouterListeners.get(id);
-            if (targetListener != null) {
+            final Collection<VungleRouterListener> targetListeners = getPlayListeners(id);
+            for (final VungleRouterListener targetListener : targetListeners) {
                 targetListener.onAdViewed(id);
-            } else {
-                MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdViewed - VungleRouterListener is not found for " +
-                        "Placement ID: " + id);
+            }
+            if (targetListeners.isEmpty()) {
+                VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdViewed - VungleRouterListener is not found for " +
+                        "Placement ID: ", id);
             }
 
         }
     };
 
+    // Load callbacks only carry the placement ID, so each one goes to a single pending load of that
+    // placement, the oldest one whose ad markup Vungle.canPlayAd() can tell apart.
     private final LoadAdCallback loadAdCallback = new LoadAdCallback() {
         @Override
         public void onAdLoad(String id) {
-            MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdLoad - Placement ID: " + id);
+            VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdLoad - Placement ID: ", id);
+
+            PendingAdRequest pendingAdRequest = pollOldestLoad(id, LoadMatch.PLAYABLE);
+            if (pendingAdRequest == null) {
+                // A non-bidding ad may not be reported as playable yet.
+                pendingAdRequest = pollOldestLoad(id, LoadMatch.NO_MARKUP);
+            }
 
-            VungleRouterListener targetListener = sVungleRouterListeners.get(id);
-            if (targetListener != null) {
-                targetListener.onAdLoaded(id);
+            if (pendingAdRequest != null) {
+                pendingAdRequest.listener.onAdLoaded(id);
             } else {
-                MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdLoad - " +
-                        "VungleRouterListener is not found for Placement ID: " + id);
+                VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdLoad - " +
+                        "VungleRouterListener is not found for Placement ID: ", id);
             }
         }
 
         @Override
         public void onError(String id, VungleException error) {
-            MoPubLog.log(id, CUSTOM_WITH_THROWABLE, ADAPTER_NAME, "onAdLoadError - Placement ID: " + id, error);
+            VungleLog.logWithThrowable(id, ADAPTER_NAME, "onAdLoadError - Placement ID: ", id, error);
+
+            PendingAdRequest pendingAdRequest = pollOldestLoad(id, LoadMatch.NOT_PLAYABLE);
+            if (pendingAdRequest == null) {
+                pendingAdRequest = pollOldestLoad(id, LoadMatch.ANY);
+            }
 
-            VungleRouterListener targetListener = sVungleRouterListeners.get(id);
-            if (targetListener != null) {
-                targetListener.onAdLoadError(id, error);
+            if (pendingAdRequest != null) {
+                pendingAdRequest.listener.onAdLoadError(id, error);
             } else {
-                MoPubLog.log(id, CUSTOM, ADAPTER_NAME, "onAdLoadError - " +
-                        "VungleRouterListener is not found for Placement ID: " + id);
+                VungleLog.log(id, CUSTOM, ADAPTER_NAME, "onAdLoadError - " +
+                        "VungleRouterListener is not found for Placement ID: ", id);
             }
         }
     };